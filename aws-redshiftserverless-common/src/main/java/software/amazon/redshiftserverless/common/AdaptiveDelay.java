@@ -0,0 +1,91 @@
+package software.amazon.redshiftserverless.common;
+
+import lombok.Builder;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Stabilization delay that polls quickly for the first few attempts, then backs off exponentially
+ * up to a cap, with downward jitter so stacks polling many resources do not line up.
+ *
+ * The delay depends only on the attempt number, which the callback context carries across
+ * re-invocations, so a single instance can be shared by every handler in the container.
+ */
+public class AdaptiveDelay implements Delay {
+    private static final double DEFAULT_JITTER = 0.2;
+
+    private final Duration timeout;
+    private final Duration initialDelay;
+    private final int fastAttempts;
+    private final Duration maxDelay;
+    private final double jitter;
+    private final DoubleSupplier random;
+
+    @Builder(builderMethodName = "of")
+    AdaptiveDelay(final Duration timeout,
+                  final Duration initialDelay,
+                  final int fastAttempts,
+                  final Duration maxDelay,
+                  final Double jitter,
+                  final DoubleSupplier random) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be > 0");
+        }
+        if (initialDelay == null || initialDelay.getSeconds() < 1) {
+            throw new IllegalArgumentException("initialDelay must be at least 1 second");
+        }
+        if (maxDelay == null || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay must be >= initialDelay");
+        }
+        if (fastAttempts < 0) {
+            throw new IllegalArgumentException("fastAttempts must be >= 0");
+        }
+        if (jitter != null && (jitter < 0 || jitter >= 1)) {
+            throw new IllegalArgumentException("jitter must be in [0, 1)");
+        }
+        this.timeout = timeout;
+        this.initialDelay = initialDelay;
+        this.fastAttempts = fastAttempts;
+        this.maxDelay = maxDelay;
+        this.jitter = jitter != null ? jitter : DEFAULT_JITTER;
+        this.random = random != null ? random : () -> ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        if (elapsedAfter(attempt).compareTo(timeout) > 0) {
+            return Duration.ZERO;
+        }
+
+        // Callbacks are scheduled in whole seconds and a zero delay means "timed out", so never go below 1s
+        long nominalMillis = nominalDelay(attempt).toMillis();
+        long jitteredSeconds = Math.round(nominalMillis * (1.0 - jitter * random.getAsDouble()) / 1000.0);
+        return Duration.ofSeconds(Math.max(1L, jitteredSeconds));
+    }
+
+    Duration nominalDelay(final int attempt) {
+        if (attempt <= fastAttempts) {
+            return initialDelay;
+        }
+        int exponent = Math.min(attempt - fastAttempts, 30);
+        Duration delay = initialDelay.multipliedBy(1L << exponent);
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+
+    private Duration elapsedAfter(final int attempt) {
+        Duration elapsed = Duration.ZERO;
+        for (int i = 1; i <= attempt && elapsed.compareTo(timeout) <= 0; i++) {
+            elapsed = elapsed.plus(nominalDelay(i));
+        }
+        return elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AdaptiveDelay{initialDelay=%s, fastAttempts=%d, maxDelay=%s, jitter=%s, timeout=%s}",
+                initialDelay, fastAttempts, maxDelay, jitter, timeout);
+    }
+}
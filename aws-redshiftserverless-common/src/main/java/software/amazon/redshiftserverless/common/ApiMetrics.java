@@ -0,0 +1,254 @@
+package software.amazon.redshiftserverless.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Call count, latency, errors and throttling per AWS API for one handler invocation, emitted as a single
+ * CloudWatch Embedded Metric Format document. rpdk does not expose the call graph name to the proxy client,
+ * so calls are keyed by API operation; the handler is a dimension.
+ */
+public class ApiMetrics {
+    static final String METRIC_NAMESPACE = "RedshiftServerless/ResourceHandlers";
+    static final long[] LATENCY_BUCKETS_MILLIS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    // EMF accepts at most 100 values per metric in a document
+    static final int MAX_LATENCY_SAMPLES = 100;
+
+    private static final ObjectWriter EMF_WRITER = new ObjectMapper().writer();
+
+    private final String resourceType;
+    private final String handler;
+    private final LongSupplier nanoClock;
+    private final Map<String, OperationStats> operations = new TreeMap<>();
+    private final Map<String, Integer> negativeCacheHits = new TreeMap<>();
+
+    public ApiMetrics(final String resourceType, final String handler) {
+        this(resourceType, handler, System::nanoTime);
+    }
+
+    public ApiMetrics(final String resourceType, final String handler, final LongSupplier nanoClock) {
+        this.resourceType = resourceType;
+        this.handler = handler;
+        this.nanoClock = nanoClock;
+    }
+
+    static String operationName(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+
+    synchronized void record(final String operation, final long latencyNanos, final Throwable exception) {
+        operations.computeIfAbsent(operation, key -> new OperationStats())
+                .record(TimeUnit.NANOSECONDS.toMillis(latencyNanos), exception);
+    }
+
+    /**
+     * Counts a call that was skipped because a {@link NegativeCache} already knew it would fail.
+     */
+    public synchronized void recordNegativeCacheHit(final String operation) {
+        negativeCacheHits.merge(operation, 1, Integer::sum);
+    }
+
+    public synchronized boolean isEmpty() {
+        return operations.isEmpty() && negativeCacheHits.isEmpty();
+    }
+
+    private <T> T time(final AwsRequest request, final Supplier<T> call) {
+        final long start = nanoClock.getAsLong();
+        try {
+            final T result = call.get();
+            record(operationName(request), nanoClock.getAsLong() - start, null);
+            return result;
+        } catch (RuntimeException e) {
+            record(operationName(request), nanoClock.getAsLong() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Proxy client that times every call made through it. Paginated iterables are timed up to the first page.
+     */
+    public <ClientT> ProxyClient<ClientT> wrap(final ProxyClient<ClientT> delegate) {
+        return new ProxyClient<ClientT>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return time(request, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(final RequestT request,
+                                              final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                final long start = nanoClock.getAsLong();
+                return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction)
+                        .whenComplete((response, exception) -> record(operationName(request), nanoClock.getAsLong() - start,
+                                exception != null && exception.getCause() != null ? exception.getCause() : exception));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+            injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+                return time(request, () -> delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                                    final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+                return time(request, () -> delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                              final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+                return time(request, () -> delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+            }
+
+            @Override
+            public ClientT client() {
+                return delegate.client();
+            }
+        };
+    }
+
+    /**
+     * Embedded Metric Format document with Calls, Errors, Throttles and Latency per operation, plus NegativeCacheHits
+     * for operations that were skipped. The latency histogram and error classes ride along as plain properties so
+     * they show up in Logs Insights without extra metrics.
+     */
+    public synchronized Map<String, Object> toEmf(final long timestampMillis) {
+        final List<Map<String, String>> metrics = new ArrayList<>();
+        final Map<String, Object> document = new LinkedHashMap<>();
+        final Map<String, Object> histograms = new LinkedHashMap<>();
+        final Map<String, Object> errors = new LinkedHashMap<>();
+        document.put("ResourceType", resourceType);
+        document.put("Handler", handler);
+        operations.forEach((operation, stats) -> {
+            metrics.add(metric(operation + ".Calls", "Count"));
+            metrics.add(metric(operation + ".Errors", "Count"));
+            metrics.add(metric(operation + ".Throttles", "Count"));
+            metrics.add(metric(operation + ".Latency", "Milliseconds"));
+            document.put(operation + ".Calls", stats.calls);
+            document.put(operation + ".Errors", stats.errors);
+            document.put(operation + ".Throttles", stats.throttles);
+            document.put(operation + ".Latency", stats.latencySamples);
+            histograms.put(operation, stats.histogram());
+            if (!stats.errorClasses.isEmpty()) {
+                errors.put(operation, stats.errorClasses);
+            }
+        });
+        // Only declared when a call was skipped, so the document stays the same for invocations without hits
+        negativeCacheHits.forEach((operation, hits) -> {
+            metrics.add(metric(operation + ".NegativeCacheHits", "Count"));
+            document.put(operation + ".NegativeCacheHits", hits);
+        });
+        document.put("LatencyHistogram", histograms);
+        document.put("ErrorClasses", errors);
+
+        final Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", METRIC_NAMESPACE);
+        directive.put("Dimensions", Collections.singletonList(Arrays.asList("ResourceType", "Handler")));
+        directive.put("Metrics", metrics);
+        final Map<String, Object> aws = new LinkedHashMap<>();
+        aws.put("Timestamp", timestampMillis);
+        aws.put("CloudWatchMetrics", Collections.singletonList(directive));
+
+        final Map<String, Object> emf = new LinkedHashMap<>();
+        emf.put("_aws", aws);
+        emf.putAll(document);
+        return emf;
+    }
+
+    /**
+     * @return the EMF document as a single JSON line, or null when it could not be written
+     */
+    public String toEmfJson() {
+        try {
+            return EMF_WRITER.writeValueAsString(toEmf(System.currentTimeMillis()));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Logs the EMF document as one line, unless nothing was recorded or the document could not be written.
+     */
+    public void log(final Logger logger) {
+        if (isEmpty()) {
+            return;
+        }
+        final String emf = toEmfJson();
+        if (emf != null) {
+            logger.log(emf);
+        }
+    }
+
+    private static Map<String, String> metric(final String name, final String unit) {
+        final Map<String, String> metric = new LinkedHashMap<>();
+        metric.put("Name", name);
+        metric.put("Unit", unit);
+        return metric;
+    }
+
+    private static final class OperationStats {
+        private int calls;
+        private int errors;
+        private int throttles;
+        private final long[] bucketCounts = new long[LATENCY_BUCKETS_MILLIS.length + 1];
+        private final List<Long> latencySamples = new ArrayList<>();
+        private final Map<String, Integer> errorClasses = new TreeMap<>();
+
+        private void record(final long latencyMillis, final Throwable exception) {
+            calls++;
+            if (latencySamples.size() < MAX_LATENCY_SAMPLES) {
+                latencySamples.add(latencyMillis);
+            }
+            int bucket = 0;
+            while (bucket < LATENCY_BUCKETS_MILLIS.length && latencyMillis > LATENCY_BUCKETS_MILLIS[bucket]) {
+                bucket++;
+            }
+            bucketCounts[bucket]++;
+            if (exception != null) {
+                errors++;
+                errorClasses.merge(exception.getClass().getSimpleName(), 1, Integer::sum);
+                if (ErrorClassifier.isThrottling(exception)) {
+                    throttles++;
+                }
+            }
+        }
+
+        private Map<String, Long> histogram() {
+            final Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < bucketCounts.length; i++) {
+                if (bucketCounts[i] > 0) {
+                    histogram.put(i < LATENCY_BUCKETS_MILLIS.length ? "<=" + LATENCY_BUCKETS_MILLIS[i] : ">" + LATENCY_BUCKETS_MILLIS[i - 1],
+                            bucketCounts[i]);
+                }
+            }
+            return histogram;
+        }
+    }
+}
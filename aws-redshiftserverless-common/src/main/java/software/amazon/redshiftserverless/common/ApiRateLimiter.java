@@ -0,0 +1,102 @@
+package software.amazon.redshiftserverless.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Client-side call budget per service, account and region, shared by every handler in the container.
+ * Reads (Get/List) and mutating calls draw from separate buckets, so stabilization polling cannot starve
+ * the calls that actually change resources.
+ */
+public class ApiRateLimiter {
+    public static final int READ_BURST = 20;
+    public static final double READ_PERMITS_PER_SECOND = 20.0;
+    public static final int MUTATE_BURST = 5;
+    public static final double MUTATE_PERMITS_PER_SECOND = 5.0;
+
+    private static final Map<String, ApiRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final TokenBucket readBucket;
+    private final TokenBucket mutateBucket;
+
+    ApiRateLimiter(final TokenBucket readBucket, final TokenBucket mutateBucket) {
+        this.readBucket = readBucket;
+        this.mutateBucket = mutateBucket;
+    }
+
+    public static ApiRateLimiter forAccountAndRegion(final String service, final String accountId, final String region) {
+        return LIMITERS.computeIfAbsent(String.join("/", service, String.valueOf(accountId), String.valueOf(region)),
+                key -> new ApiRateLimiter(
+                        new TokenBucket(READ_BURST, READ_PERMITS_PER_SECOND),
+                        new TokenBucket(MUTATE_BURST, MUTATE_PERMITS_PER_SECOND)));
+    }
+
+    static boolean isReadOnly(final AwsRequest request) {
+        final String operation = request.getClass().getSimpleName();
+        return operation.startsWith("Get") || operation.startsWith("List");
+    }
+
+    public void acquire(final AwsRequest request) {
+        (isReadOnly(request) ? readBucket : mutateBucket).acquire();
+    }
+
+    /**
+     * Proxy client that takes a permit before every call made through it. Paginated iterables take a single
+     * permit for the first page.
+     */
+    public <ClientT> ProxyClient<ClientT> wrap(final ProxyClient<ClientT> delegate) {
+        return new ProxyClient<ClientT>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                acquire(request);
+                return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(final RequestT request,
+                                              final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                acquire(request);
+                return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+            injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+                acquire(request);
+                return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(final RequestT request,
+                                                    final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+                acquire(request);
+                return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(final RequestT request,
+                                              final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+                acquire(request);
+                return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+            }
+
+            @Override
+            public ClientT client() {
+                return delegate.client();
+            }
+        };
+    }
+}
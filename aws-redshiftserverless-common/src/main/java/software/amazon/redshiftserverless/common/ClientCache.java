@@ -0,0 +1,53 @@
+package software.amazon.redshiftserverless.common;
+
+import lombok.Value;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.regions.Region;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Hands out SDK clients that live for the lifetime of the container. Clients are thread-safe and
+ * expensive to build (endpoint resolution, interceptor chain, signer setup), so one instance is kept
+ * per region/endpoint override instead of building a new one on every handler invocation.
+ *
+ * @param <ClientT> the SDK client type, one cache per type
+ */
+public class ClientCache<ClientT extends SdkClient> {
+
+    private final ConcurrentMap<ClientKey, ClientT> clients = new ConcurrentHashMap<>();
+    private final Supplier<? extends AwsClientBuilder<?, ClientT>> builders;
+
+    /**
+     * @param builders fresh builder for every client, with everything but the region and endpoint override set
+     */
+    public ClientCache(final Supplier<? extends AwsClientBuilder<?, ClientT>> builders) {
+        this.builders = builders;
+    }
+
+    public ClientT get(final Region region, final URI endpointOverride) {
+        return clients.computeIfAbsent(new ClientKey(region, endpointOverride), key -> {
+            final AwsClientBuilder<?, ClientT> builder = builders.get();
+            if (key.getRegion() != null) {
+                builder.region(key.getRegion());
+            }
+            if (key.getEndpointOverride() != null) {
+                builder.endpointOverride(key.getEndpointOverride());
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * A null region or endpoint override means the SDK default resolution chain is used.
+     */
+    @Value
+    private static class ClientKey {
+        Region region;
+        URI endpointOverride;
+    }
+}
@@ -0,0 +1,59 @@
+package software.amazon.redshiftserverless.common;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.redshiftserverless.model.AccessDeniedException;
+import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
+import software.amazon.awssdk.services.redshiftserverless.model.InsufficientCapacityException;
+import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.redshiftserverless.model.TooManyTagsException;
+import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.regex.Pattern;
+
+/**
+ * Maps service exceptions to CloudFormation handler error codes, the same way for every resource type.
+ * InternalServerException is the service failing, not the handler, so it maps to ServiceInternalError;
+ * InternalFailure is left for bugs in the handler itself.
+ */
+public final class ErrorClassifier {
+    private static final Pattern ALREADY_EXISTS = Pattern.compile(".*already exists.*", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private ErrorClassifier() {
+    }
+
+    public static HandlerErrorCode classify(final Exception exception) {
+        if (exception instanceof ValidationException) {
+            return HandlerErrorCode.InvalidRequest;
+        } else if (exception instanceof AccessDeniedException) {
+            return HandlerErrorCode.AccessDenied;
+        } else if (exception instanceof ResourceNotFoundException) {
+            return HandlerErrorCode.NotFound;
+        } else if (exception instanceof TooManyTagsException || exception instanceof ServiceQuotaExceededException) {
+            return HandlerErrorCode.ServiceLimitExceeded;
+        } else if (exception instanceof ConflictException || exception instanceof InsufficientCapacityException) {
+            return exception.getMessage() != null && ALREADY_EXISTS.matcher(exception.getMessage()).matches()
+                    ? HandlerErrorCode.AlreadyExists
+                    : HandlerErrorCode.ResourceConflict;
+        } else if (exception instanceof InternalServerException) {
+            return HandlerErrorCode.ServiceInternalError;
+        } else if (isThrottling(exception)) {
+            return HandlerErrorCode.Throttling;
+        }
+        return HandlerErrorCode.GeneralServiceException;
+    }
+
+    public static <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> failure(final Exception exception) {
+        return ProgressEvent.defaultFailureHandler(exception, classify(exception));
+    }
+
+    /**
+     * Covers the service's ThrottlingException as well as throttling error codes on clients of other services.
+     */
+    public static boolean isThrottling(final Throwable exception) {
+        return exception instanceof AwsServiceException && ((AwsServiceException) exception).isThrottlingException();
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.redshiftserverless.common;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Merges several service pages into one List handler response, so a stack listing a few hundred resources needs one
+ * handler invocation rather than one per service page. Fetching stops at the last page, once the request's MaxResults
+ * are collected, after {@link #MAX_PAGES_PER_INVOCATION} pages, or when another page, judged by the slowest one so
+ * far, would likely not fit in the time budget. The token of the first page not fetched is handed back to
+ * CloudFormation.
+ */
+public class ListPager {
+    // The Redshift Serverless List APIs accept at most 100 results per page
+    public static final int MAX_RESULTS = 100;
+    public static final int MAX_PAGES_PER_INVOCATION = 5;
+    // Wall-clock budget for fetching additional pages within one invocation
+    static final long TIME_BUDGET_MILLIS = 10000L;
+
+    private final LongSupplier clock;
+
+    public ListPager() {
+        this(System::currentTimeMillis);
+    }
+
+    ListPager(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @param nextToken        token CloudFormation handed in, null for the first page
+     * @param requestedResults the request's MaxResults, null when not set
+     * @param fetchPage        fetches the page for a token and page size
+     * @param items            models on a page
+     * @param nextTokenOf      token of the page after it, null on the last page
+     */
+    public <ResponseT, ModelT> Result<ModelT> list(final String nextToken,
+                                                  final Integer requestedResults,
+                                                  final BiFunction<String, Integer, ResponseT> fetchPage,
+                                                  final Function<ResponseT, List<ModelT>> items,
+                                                  final Function<ResponseT, String> nextTokenOf) {
+        final List<ModelT> models = new ArrayList<>();
+        final long invocationStart = clock.getAsLong();
+        String token = nextToken;
+        long slowestPageMillis = 0L;
+        int pages = 0;
+        do {
+            final long start = clock.getAsLong();
+            final ResponseT page = fetchPage.apply(token, pageSize(requestedResults, models.size()));
+            models.addAll(items.apply(page));
+            token = nextTokenOf.apply(page);
+            slowestPageMillis = Math.max(slowestPageMillis, clock.getAsLong() - start);
+            pages++;
+        } while (token != null && pages < MAX_PAGES_PER_INVOCATION
+                && (requestedResults == null || models.size() < requestedResults)
+                && clock.getAsLong() - invocationStart + 2 * slowestPageMillis < TIME_BUDGET_MILLIS);
+        return new Result<>(models, token);
+    }
+
+    private static int pageSize(final Integer requestedResults, final int collected) {
+        return requestedResults == null ? MAX_RESULTS : Math.max(1, Math.min(MAX_RESULTS, requestedResults - collected));
+    }
+
+    @Value
+    public static class Result<ModelT> {
+        List<ModelT> models;
+        String nextToken;
+    }
+}
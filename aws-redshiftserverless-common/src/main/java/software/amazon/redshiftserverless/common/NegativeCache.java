@@ -0,0 +1,53 @@
+package software.amazon.redshiftserverless.common;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers, for the lifetime of the container, keys for which a call is known to fail for a reason that will not
+ * change from one invocation to the next (feature not available in the region, permission missing), so handlers can
+ * skip the call instead of paying for the round trip and the error. Entries expire after a fixed time to live, which
+ * bounds how long a permission granted or a feature launched in the meantime goes unnoticed.
+ *
+ * @param <K> the key type, usually the region and account the call was made for
+ */
+public class NegativeCache<K> {
+
+    private final ConcurrentMap<K, Long> expiries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    public NegativeCache(final Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    NegativeCache(final Duration ttl, final LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return true when the key was put less than the time to live ago and has not been invalidated since
+     */
+    public boolean contains(final K key) {
+        final Long expiry = expiries.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - expiry >= 0) {
+            expiries.remove(key, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    public void put(final K key) {
+        expiries.put(key, nanoClock.getAsLong() + ttlNanos);
+    }
+
+    public void invalidate(final K key) {
+        expiries.remove(key);
+    }
+}
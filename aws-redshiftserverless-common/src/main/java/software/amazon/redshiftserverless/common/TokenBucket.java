@@ -0,0 +1,58 @@
+package software.amazon.redshiftserverless.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out permits at a steady rate with a bounded burst. A caller that finds the bucket empty reserves
+ * the next permit and sleeps until it is due, so waiting callers are served in arrival order.
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double permitsPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(final int capacity, final double permitsPerSecond) {
+        this(capacity, permitsPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(final int capacity, final double permitsPerSecond, final LongSupplier nanoClock) {
+        if (capacity < 1 || permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and permitsPerSecond must be positive");
+        }
+        this.capacity = capacity;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1L);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Blocks until a permit is available. An interrupt ends the wait early and is left set on the thread.
+     */
+    public void acquire() {
+        final long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Takes a permit, going into debt if the bucket is empty.
+     * @return nanoseconds until the taken permit is due, 0 if it is available now
+     */
+    synchronized long reserve() {
+        final long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0L : (long) Math.ceil(-tokens / permitsPerNano);
+    }
+}
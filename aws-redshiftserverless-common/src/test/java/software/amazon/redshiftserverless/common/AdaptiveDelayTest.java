@@ -0,0 +1,71 @@
+package software.amazon.redshiftserverless.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptiveDelayTest {
+
+    private static AdaptiveDelay.AdaptiveDelayBuilder delay() {
+        return AdaptiveDelay.of()
+                .timeout(Duration.ofMinutes(30L))
+                .initialDelay(Duration.ofSeconds(5L))
+                .fastAttempts(3)
+                .maxDelay(Duration.ofSeconds(30L));
+    }
+
+    @Test
+    public void nextDelay_FastPollsThenExponentialUpToCap() {
+        final AdaptiveDelay adaptiveDelay = delay().jitter(0.0).build();
+
+        assertThat(adaptiveDelay.nextDelay(1)).isEqualTo(Duration.ofSeconds(5L));
+        assertThat(adaptiveDelay.nextDelay(2)).isEqualTo(Duration.ofSeconds(5L));
+        assertThat(adaptiveDelay.nextDelay(3)).isEqualTo(Duration.ofSeconds(5L));
+        assertThat(adaptiveDelay.nextDelay(4)).isEqualTo(Duration.ofSeconds(10L));
+        assertThat(adaptiveDelay.nextDelay(5)).isEqualTo(Duration.ofSeconds(20L));
+        assertThat(adaptiveDelay.nextDelay(6)).isEqualTo(Duration.ofSeconds(30L));
+        assertThat(adaptiveDelay.nextDelay(40)).isEqualTo(Duration.ofSeconds(30L));
+    }
+
+    @Test
+    public void nextDelay_JitterOnlyShortensDelay() {
+        final AdaptiveDelay noJitter = delay().random(() -> 0.0).build();
+        final AdaptiveDelay maxJitter = delay().random(() -> 0.99).build();
+
+        assertThat(noJitter.nextDelay(10)).isEqualTo(Duration.ofSeconds(30L));
+        assertThat(maxJitter.nextDelay(10)).isEqualTo(Duration.ofSeconds(24L));
+        assertThat(maxJitter.nextDelay(1)).isEqualTo(Duration.ofSeconds(4L));
+    }
+
+    @Test
+    public void nextDelay_NeverBelowOneSecond() {
+        final AdaptiveDelay adaptiveDelay = delay()
+                .initialDelay(Duration.ofSeconds(1L))
+                .jitter(0.9)
+                .random(() -> 0.99)
+                .build();
+
+        assertThat(adaptiveDelay.nextDelay(1)).isEqualTo(Duration.ofSeconds(1L));
+    }
+
+    @Test
+    public void nextDelay_ZeroOnceTimeoutExceeded() {
+        final AdaptiveDelay adaptiveDelay = delay().timeout(Duration.ofSeconds(60L)).jitter(0.0).build();
+
+        // 5 + 5 + 5 + 10 + 20 = 45s, the next 30s delay would exceed the timeout
+        assertThat(adaptiveDelay.nextDelay(5)).isEqualTo(Duration.ofSeconds(20L));
+        assertThat(adaptiveDelay.nextDelay(6)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void build_RejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> delay().timeout(null).build());
+        assertThrows(IllegalArgumentException.class, () -> delay().initialDelay(Duration.ofMillis(500L)).build());
+        assertThrows(IllegalArgumentException.class, () -> delay().maxDelay(Duration.ofSeconds(1L)).build());
+        assertThrows(IllegalArgumentException.class, () -> delay().fastAttempts(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> delay().jitter(1.0).build());
+    }
+}
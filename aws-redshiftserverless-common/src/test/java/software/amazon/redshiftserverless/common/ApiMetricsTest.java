@@ -0,0 +1,149 @@
+package software.amazon.redshiftserverless.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+public class ApiMetricsTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESOURCE_TYPE = "AWS::RedshiftServerless::Namespace";
+
+    @Test
+    public void wrap_RecordsSyncAndAsyncCalls() {
+        final AtomicLong now = new AtomicLong(0L);
+        final ApiMetrics metrics = new ApiMetrics(RESOURCE_TYPE, "ReadHandler", now::get);
+        final ProxyClient<RedshiftServerlessClient> proxyClient = metrics.wrap(steppingProxyClient(now));
+
+        proxyClient.injectCredentialsAndInvokeV2(GetNamespaceRequest.builder().build(), proxyClient.client()::getNamespace);
+        assertThrows(CompletionException.class, () -> proxyClient.injectCredentialsAndInvokeV2Async(
+                ListSnapshotCopyConfigurationsRequest.builder().build(), request -> null).join());
+
+        final Map<String, Object> emf = metrics.toEmf(0L);
+        assertThat(emf).containsEntry("ResourceType", RESOURCE_TYPE)
+                .containsEntry("Handler", "ReadHandler")
+                .containsEntry("GetNamespace.Calls", 1)
+                .containsEntry("GetNamespace.Errors", 0)
+                .containsEntry("ListSnapshotCopyConfigurations.Calls", 1)
+                .containsEntry("ListSnapshotCopyConfigurations.Errors", 1)
+                .containsEntry("ListSnapshotCopyConfigurations.Throttles", 1);
+        assertThat(emf.get("GetNamespace.Latency")).asList().containsExactly(30L);
+        // the async failure is recorded under the service exception, not the CompletionException wrapping it
+        assertThat(emf.get("ErrorClasses")).asString().contains("ListSnapshotCopyConfigurations={ThrottlingException=1}");
+    }
+
+    @Test
+    public void toEmfJson_DeclaresEveryMetricUnderOneDirective() throws Exception {
+        final ApiMetrics metrics = new ApiMetrics(RESOURCE_TYPE, "ReadHandler");
+        metrics.record("GetNamespace", TimeUnit.MILLISECONDS.toNanos(40L), null);
+        metrics.record("ListSnapshotCopyConfigurations", TimeUnit.MILLISECONDS.toNanos(12_000L), null);
+
+        final JsonNode emf = MAPPER.readTree(metrics.toEmfJson());
+        final JsonNode directive = emf.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(emf.get("_aws").get("Timestamp").asLong()).isPositive();
+        assertThat(directive.get("Namespace").asText()).isEqualTo(ApiMetrics.METRIC_NAMESPACE);
+        assertThat(directive.get("Dimensions").toString()).isEqualTo("[[\"ResourceType\",\"Handler\"]]");
+        final List<String> names = new ArrayList<>();
+        directive.get("Metrics").forEach(metric -> names.add(metric.get("Name").asText()));
+        assertThat(names).containsExactly(
+                "GetNamespace.Calls", "GetNamespace.Errors", "GetNamespace.Throttles", "GetNamespace.Latency",
+                "ListSnapshotCopyConfigurations.Calls", "ListSnapshotCopyConfigurations.Errors",
+                "ListSnapshotCopyConfigurations.Throttles", "ListSnapshotCopyConfigurations.Latency");
+        // every declared metric has a value at the root of the document
+        names.forEach(name -> assertThat(emf.has(name)).as(name).isTrue());
+        assertThat(emf.get("LatencyHistogram").get("ListSnapshotCopyConfigurations").get(">10000").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void toEmf_CapsLatencySamples() {
+        final ApiMetrics metrics = new ApiMetrics(RESOURCE_TYPE, "ListHandler");
+        for (int i = 0; i < ApiMetrics.MAX_LATENCY_SAMPLES + 20; i++) {
+            metrics.record("ListNamespaces", TimeUnit.MILLISECONDS.toNanos(5L), null);
+        }
+
+        final Map<String, Object> emf = metrics.toEmf(0L);
+        assertThat(emf).containsEntry("ListNamespaces.Calls", ApiMetrics.MAX_LATENCY_SAMPLES + 20);
+        assertThat(emf.get("ListNamespaces.Latency")).asList().hasSize(ApiMetrics.MAX_LATENCY_SAMPLES);
+    }
+
+    @Test
+    public void toEmf_DeclaresNegativeCacheHitsOnlyWhenSkipped() {
+        final ApiMetrics metrics = new ApiMetrics(RESOURCE_TYPE, "ReadHandler");
+        assertThat(metrics.isEmpty()).isTrue();
+        metrics.recordNegativeCacheHit("GetResourcePolicy");
+        metrics.recordNegativeCacheHit("GetResourcePolicy");
+        assertThat(metrics.isEmpty()).isFalse();
+
+        final Map<String, Object> emf = metrics.toEmf(0L);
+        assertThat(emf).containsEntry("GetResourcePolicy.NegativeCacheHits", 2)
+                .doesNotContainKey("GetResourcePolicy.Calls");
+        assertThat(emf.get("_aws").toString()).contains("GetResourcePolicy.NegativeCacheHits");
+    }
+
+    @Test
+    public void log_WritesOneLineOnlyWhenSomethingWasRecorded() throws Exception {
+        final ApiMetrics metrics = new ApiMetrics(RESOURCE_TYPE, "ListHandler");
+        final List<String> lines = new ArrayList<>();
+        metrics.log(lines::add);
+        assertThat(lines).isEmpty();
+
+        metrics.record("ListNamespaces", TimeUnit.MILLISECONDS.toNanos(80L), null);
+        metrics.log(lines::add);
+        assertThat(lines).hasSize(1);
+        assertThat(MAPPER.readTree(lines.get(0)).get("ListNamespaces.Calls").asInt()).isEqualTo(1);
+    }
+
+    /**
+     * Every synchronous call advances the clock by 30ms; asynchronous calls fail with a throttle.
+     */
+    private static ProxyClient<RedshiftServerlessClient> steppingProxyClient(final AtomicLong now) {
+        final RedshiftServerlessClient client = mock(RedshiftServerlessClient.class);
+        return new ProxyClient<RedshiftServerlessClient>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                now.addAndGet(TimeUnit.MILLISECONDS.toNanos(30L));
+                return (ResponseT) GetNamespaceResponse.builder().build();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(final RequestT request,
+                                              final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                final CompletableFuture<ResponseT> future = new CompletableFuture<>();
+                // the way a failure inside supplyAsync reaches dependent stages
+                final ThrottlingException throttled = ThrottlingException.builder().message("Rate exceeded").statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build();
+                future.completeExceptionally(new CompletionException(throttled));
+                return future;
+            }
+
+            @Override
+            public RedshiftServerlessClient client() {
+                return client;
+            }
+        };
+    }
+}
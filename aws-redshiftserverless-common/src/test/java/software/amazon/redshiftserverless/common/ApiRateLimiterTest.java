@@ -0,0 +1,190 @@
+package software.amazon.redshiftserverless.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.GetResourcePolicyRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateWorkgroupRequest;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ApiRateLimiterTest {
+
+    @Test
+    public void tokenBucket_BurstThenSteadyRate() {
+        final AtomicLong now = new AtomicLong(0L);
+        final TokenBucket bucket = new TokenBucket(2, 4.0, now::get);
+
+        assertThat(bucket.reserve()).isEqualTo(0L);
+        assertThat(bucket.reserve()).isEqualTo(0L);
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(250L));
+        assertThat(bucket.reserve()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500L));
+
+        now.set(TimeUnit.SECONDS.toNanos(10L));
+        assertThat(bucket.reserve()).isEqualTo(0L);
+        assertThat(bucket.reserve()).isEqualTo(0L);
+        assertThat(bucket.reserve()).isGreaterThan(0L);
+    }
+
+    @Test
+    public void isReadOnly_ClassifiesByOperation() {
+        assertThat(ApiRateLimiter.isReadOnly(GetNamespaceRequest.builder().build())).isTrue();
+        assertThat(ApiRateLimiter.isReadOnly(GetWorkgroupRequest.builder().build())).isTrue();
+        assertThat(ApiRateLimiter.isReadOnly(ListSnapshotCopyConfigurationsRequest.builder().build())).isTrue();
+        assertThat(ApiRateLimiter.isReadOnly(ListTagsForResourceRequest.builder().build())).isTrue();
+        assertThat(ApiRateLimiter.isReadOnly(GetResourcePolicyRequest.builder().build())).isTrue();
+        assertThat(ApiRateLimiter.isReadOnly(UpdateNamespaceRequest.builder().build())).isFalse();
+        assertThat(ApiRateLimiter.isReadOnly(UpdateWorkgroupRequest.builder().build())).isFalse();
+        assertThat(ApiRateLimiter.isReadOnly(TagResourceRequest.builder().build())).isFalse();
+        assertThat(ApiRateLimiter.isReadOnly(DeleteWorkgroupRequest.builder().build())).isFalse();
+        assertThat(ApiRateLimiter.isReadOnly(PutResourcePolicyRequest.builder().build())).isFalse();
+    }
+
+    @Test
+    public void forAccountAndRegion_SharedPerServiceAccountAndRegion() {
+        final ApiRateLimiter limiter = ApiRateLimiter.forAccountAndRegion("redshift-serverless", "123456789012", "us-east-1");
+
+        assertThat(ApiRateLimiter.forAccountAndRegion("redshift-serverless", "123456789012", "us-east-1")).isSameAs(limiter);
+        assertThat(ApiRateLimiter.forAccountAndRegion("redshift", "123456789012", "us-east-1")).isNotSameAs(limiter);
+        assertThat(ApiRateLimiter.forAccountAndRegion("redshift-serverless", "210987654321", "us-east-1")).isNotSameAs(limiter);
+        assertThat(ApiRateLimiter.forAccountAndRegion("redshift-serverless", "123456789012", "us-west-2")).isNotSameAs(limiter);
+    }
+
+    @Test
+    public void wrap_ConcurrentCallsStayWithinSeparateBudgets() throws Exception {
+        final int reads = 40;
+        final int mutates = 15;
+        final Queue<Long> readTimes = new ConcurrentLinkedQueue<>();
+        final Queue<Long> mutateTimes = new ConcurrentLinkedQueue<>();
+        final ProxyClient<RedshiftServerlessClient> proxyClient = ApiRateLimiter
+                .forAccountAndRegion("redshift-serverless", UUID.randomUUID().toString(), "us-east-1")
+                .wrap(recordingProxyClient(readTimes, mutateTimes));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(reads + mutates);
+        final long start = System.nanoTime();
+        try {
+            final List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < reads; i++) {
+                calls.add(executor.submit(() -> proxyClient.injectCredentialsAndInvokeV2(
+                        GetNamespaceRequest.builder().build(), proxyClient.client()::getNamespace)));
+            }
+            for (int i = 0; i < mutates; i++) {
+                calls.add(executor.submit(() -> proxyClient.injectCredentialsAndInvokeV2(
+                        UpdateNamespaceRequest.builder().build(), proxyClient.client()::updateNamespace)));
+            }
+            for (final Future<?> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(readTimes).hasSize(reads);
+        assertThat(mutateTimes).hasSize(mutates);
+        assertWithinBudget(readTimes, start, ApiRateLimiter.READ_BURST, ApiRateLimiter.READ_PERMITS_PER_SECOND);
+        assertWithinBudget(mutateTimes, start, ApiRateLimiter.MUTATE_BURST, ApiRateLimiter.MUTATE_PERMITS_PER_SECOND);
+    }
+
+    @Test
+    public void wrap_MutatingCallsHaveTheirOwnBudget() throws Exception {
+        final int callsPerKind = 15;
+        final Queue<Long> readTimes = new ConcurrentLinkedQueue<>();
+        final Queue<Long> mutateTimes = new ConcurrentLinkedQueue<>();
+        final ProxyClient<RedshiftServerlessClient> proxyClient = ApiRateLimiter
+                .forAccountAndRegion("redshift-serverless", UUID.randomUUID().toString(), "us-east-1")
+                .wrap(recordingProxyClient(readTimes, mutateTimes));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2 * callsPerKind);
+        final long start = System.nanoTime();
+        try {
+            final List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < callsPerKind; i++) {
+                calls.add(executor.submit(() -> proxyClient.injectCredentialsAndInvokeV2(
+                        DeleteWorkgroupRequest.builder().build(), proxyClient.client()::deleteWorkgroup)));
+                calls.add(executor.submit(() -> proxyClient.injectCredentialsAndInvokeV2(
+                        GetWorkgroupRequest.builder().build(), proxyClient.client()::getWorkgroup)));
+            }
+            for (final Future<?> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(readTimes).hasSize(callsPerKind);
+        assertThat(mutateTimes).hasSize(callsPerKind);
+        assertWithinBudget(mutateTimes, start, ApiRateLimiter.MUTATE_BURST, ApiRateLimiter.MUTATE_PERMITS_PER_SECOND);
+        // reads fit in the read burst, so the mutate backlog must not hold them up
+        assertThat(Collections.max(readTimes) - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(500L));
+        assertThat(Collections.max(mutateTimes) - start).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(1500L));
+    }
+
+    /**
+     * A token bucket that starts full admits at most burst + rate * elapsed calls by any point in time.
+     */
+    private static void assertWithinBudget(final Queue<Long> callTimes, final long start, final int burst, final double permitsPerSecond) {
+        final List<Long> sorted = new ArrayList<>(callTimes);
+        Collections.sort(sorted);
+        for (int i = 0; i < sorted.size(); i++) {
+            final double elapsedSeconds = (sorted.get(i) - start) / (double) TimeUnit.SECONDS.toNanos(1L);
+            assertThat((double) i + 1).isLessThanOrEqualTo(burst + permitsPerSecond * elapsedSeconds + 1);
+        }
+    }
+
+    private static ProxyClient<RedshiftServerlessClient> recordingProxyClient(final Queue<Long> readTimes,
+                                                                              final Queue<Long> mutateTimes) {
+        final RedshiftServerlessClient client = mock(RedshiftServerlessClient.class);
+        return new ProxyClient<RedshiftServerlessClient>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                if (request instanceof GetNamespaceRequest) {
+                    readTimes.add(System.nanoTime());
+                    return (ResponseT) GetNamespaceResponse.builder().build();
+                } else if (request instanceof GetWorkgroupRequest) {
+                    readTimes.add(System.nanoTime());
+                    return (ResponseT) GetWorkgroupResponse.builder().build();
+                } else if (request instanceof DeleteWorkgroupRequest) {
+                    mutateTimes.add(System.nanoTime());
+                    return (ResponseT) DeleteWorkgroupResponse.builder().build();
+                }
+                mutateTimes.add(System.nanoTime());
+                return (ResponseT) UpdateNamespaceResponse.builder().build();
+            }
+
+            @Override
+            public RedshiftServerlessClient client() {
+                return client;
+            }
+        };
+    }
+}
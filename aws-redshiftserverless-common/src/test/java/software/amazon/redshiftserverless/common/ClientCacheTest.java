@@ -0,0 +1,40 @@
+package software.amazon.redshiftserverless.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientCacheTest {
+
+    @Test
+    public void get_BuildsOncePerRegionAndEndpoint() {
+        final AtomicInteger builds = new AtomicInteger();
+        final ClientCache<RedshiftServerlessClient> cache = new ClientCache<>(() -> {
+            builds.incrementAndGet();
+            return RedshiftServerlessClient.builder();
+        });
+
+        final RedshiftServerlessClient east = cache.get(Region.US_EAST_1, null);
+        assertThat(cache.get(Region.US_EAST_1, null)).isSameAs(east);
+        assertThat(builds).hasValue(1);
+
+        final RedshiftServerlessClient west = cache.get(Region.US_WEST_2, null);
+        final RedshiftServerlessClient overridden = cache.get(Region.US_EAST_1, URI.create("https://localhost:8443"));
+        assertThat(west).isNotSameAs(east);
+        assertThat(overridden).isNotSameAs(east);
+        assertThat(cache.get(Region.US_EAST_1, URI.create("https://localhost:8443"))).isSameAs(overridden);
+        assertThat(builds).hasValue(3);
+    }
+
+    @Test
+    public void get_AppliesRegionToTheBuilder() {
+        final ClientCache<RedshiftServerlessClient> cache = new ClientCache<>(RedshiftServerlessClient::builder);
+
+        assertThat(cache.get(Region.EU_WEST_1, null).serviceClientConfiguration().region()).isEqualTo(Region.EU_WEST_1);
+    }
+}
@@ -0,0 +1,81 @@
+package software.amazon.redshiftserverless.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.redshiftserverless.model.AccessDeniedException;
+import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
+import software.amazon.awssdk.services.redshiftserverless.model.InsufficientCapacityException;
+import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
+import software.amazon.awssdk.services.redshiftserverless.model.TooManyTagsException;
+import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorClassifierTest {
+
+    @Test
+    public void classify_ServiceExceptions() {
+        assertThat(ErrorClassifier.classify(ValidationException.builder().message("bad").build()))
+                .isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(ErrorClassifier.classify(AccessDeniedException.builder().message("denied").build()))
+                .isEqualTo(HandlerErrorCode.AccessDenied);
+        assertThat(ErrorClassifier.classify(ResourceNotFoundException.builder().message("missing").build()))
+                .isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(ErrorClassifier.classify(TooManyTagsException.builder().message("tags").build()))
+                .isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+        assertThat(ErrorClassifier.classify(ServiceQuotaExceededException.builder().message("quota").build()))
+                .isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+        assertThat(ErrorClassifier.classify(InsufficientCapacityException.builder().message("capacity").build()))
+                .isEqualTo(HandlerErrorCode.ResourceConflict);
+        assertThat(ErrorClassifier.classify(InternalServerException.builder().message("boom").build()))
+                .isEqualTo(HandlerErrorCode.ServiceInternalError);
+        assertThat(ErrorClassifier.classify(ThrottlingException.builder().message("Rate exceeded").statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build()))
+                .isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(ErrorClassifier.classify(new IllegalStateException("unexpected")))
+                .isEqualTo(HandlerErrorCode.GeneralServiceException);
+    }
+
+    @Test
+    public void classify_ConflictByMessage() {
+        assertThat(ErrorClassifier.classify(ConflictException.builder().message("Workgroup wg already exists").build()))
+                .isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(ErrorClassifier.classify(ConflictException.builder().message("Namespace ns Already Exists").build()))
+                .isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(ErrorClassifier.classify(ConflictException.builder().message("There is an operation running").build()))
+                .isEqualTo(HandlerErrorCode.ResourceConflict);
+        assertThat(ErrorClassifier.classify(ConflictException.builder().build()))
+                .isEqualTo(HandlerErrorCode.ResourceConflict);
+        assertThat(ErrorClassifier.classify(InsufficientCapacityException.builder().message("Workgroup wg already exists").build()))
+                .isEqualTo(HandlerErrorCode.AlreadyExists);
+    }
+
+    @Test
+    public void classify_ThrottlingFromOtherServices() {
+        // the shape of a throttled call on the Redshift client used for resource policies
+        final AwsServiceException throttled = AwsServiceException.builder()
+                .message("Rate exceeded")
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+                .build();
+
+        assertThat(ErrorClassifier.isThrottling(throttled)).isTrue();
+        assertThat(ErrorClassifier.classify(throttled)).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
+    @Test
+    public void failure_CarriesMessageAndCode() {
+        final ProgressEvent<Object, Object> event = ErrorClassifier.failure(InternalServerException.builder().message("test").build());
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(event.getMessage()).isEqualTo("test");
+        assertThat(event.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+    }
+}
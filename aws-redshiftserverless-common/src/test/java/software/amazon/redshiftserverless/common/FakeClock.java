@@ -0,0 +1,51 @@
+package software.amazon.redshiftserverless.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time source for the in-memory service fakes. The system clock really sleeps; the simulated clock only moves
+ * when something sleeps on it or advances it, so minutes of service-side work run instantly.
+ */
+public class FakeClock {
+    private final boolean simulated;
+    private final AtomicLong simulatedMillis = new AtomicLong();
+
+    private FakeClock(final boolean simulated) {
+        this.simulated = simulated;
+    }
+
+    public static FakeClock system() {
+        return new FakeClock(false);
+    }
+
+    public static FakeClock simulated() {
+        return new FakeClock(true);
+    }
+
+    public long millis() {
+        return simulated ? simulatedMillis.get() : System.currentTimeMillis();
+    }
+
+    public void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        if (simulated) {
+            simulatedMillis.addAndGet(millis);
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public void advance(final long millis) {
+        if (!simulated) {
+            throw new IllegalStateException("Only a simulated clock can be advanced");
+        }
+        simulatedMillis.addAndGet(millis);
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.redshiftserverless.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Latency, throttling and call accounting shared by the in-memory service fakes.
+ */
+public class FakeServiceBehavior {
+    @Getter
+    private final FakeClock clock;
+    private final Duration latency;
+    private final int throttleEvery;
+    private final double throttleRate;
+    private final Random random;
+    private final AtomicInteger totalCalls = new AtomicInteger();
+    private final Map<String, AtomicInteger> callCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> throttledCounts = new ConcurrentHashMap<>();
+
+    /**
+     * @param clock         time source, the system clock when not set
+     * @param latency       added to every call before it is served
+     * @param throttleEvery throttle every n-th call across all operations, 0 to disable
+     * @param throttleRate  probability of throttling any call, on top of throttleEvery
+     * @param seed          seed for the throttling dice so runs are repeatable
+     */
+    @Builder
+    FakeServiceBehavior(final FakeClock clock,
+                        final Duration latency,
+                        final int throttleEvery,
+                        final double throttleRate,
+                        final long seed) {
+        this.clock = clock == null ? FakeClock.system() : clock;
+        this.latency = latency == null ? Duration.ZERO : latency;
+        this.throttleEvery = throttleEvery;
+        this.throttleRate = throttleRate;
+        this.random = new Random(seed);
+    }
+
+    public static FakeServiceBehavior instant() {
+        return FakeServiceBehavior.builder().build();
+    }
+
+    /**
+     * Runs one service call: counts it, waits out the latency, then either throttles it or serves it.
+     */
+    public <T> T call(final String operation, final Supplier<T> body, final Supplier<? extends RuntimeException> throttled) {
+        final int call = totalCalls.incrementAndGet();
+        callCounts.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+        clock.sleep(latency.toMillis());
+        if ((throttleEvery > 0 && call % throttleEvery == 0) || nextDouble() < throttleRate) {
+            throttledCounts.computeIfAbsent(operation, key -> new AtomicInteger()).incrementAndGet();
+            throw throttled.get();
+        }
+        return body.get();
+    }
+
+    private synchronized double nextDouble() {
+        return random.nextDouble();
+    }
+
+    public int callCount(final String operation) {
+        final AtomicInteger count = callCounts.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    public int throttledCount(final String operation) {
+        final AtomicInteger count = throttledCounts.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    public int totalCalls() {
+        return totalCalls.get();
+    }
+
+    public Map<String, Integer> callCounts() {
+        final Map<String, Integer> counts = new TreeMap<>();
+        callCounts.forEach((operation, count) -> counts.put(operation, count.get()));
+        return counts;
+    }
+}
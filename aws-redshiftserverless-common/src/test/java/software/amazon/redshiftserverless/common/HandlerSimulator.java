@@ -0,0 +1,191 @@
+package software.amazon.redshiftserverless.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Replays CloudFormation's re-invocation protocol against the handlers on a simulated clock. Every wait the handlers
+ * ask for is handed back as callbackDelaySeconds instead of being slept out, the callback context goes through the
+ * same JSON round-trip CloudFormation applies between invocations, and the clock is advanced by the delay before the
+ * handler is invoked again. Service-side work and API latency come from the fakes sharing the same clock.
+ */
+public class HandlerSimulator<HandlerT, ModelT, CallbackT extends StdCallbackContext> {
+    private static final int MAX_INVOCATIONS = 1000;
+
+    /**
+     * Invokes a handler with the proxy clients of the resource's fakes, built on the simulator's proxy.
+     */
+    @FunctionalInterface
+    public interface Invoker<HandlerT, ModelT, CallbackT> {
+        ProgressEvent<ModelT, CallbackT> invoke(HandlerT handler,
+                                                AmazonWebServicesClientProxy proxy,
+                                                ResourceHandlerRequest<ModelT> request,
+                                                CallbackT callbackContext,
+                                                Logger logger);
+    }
+
+    private final FakeClock clock;
+    private final Supplier<CallbackT> newCallbackContext;
+    private final TypeReference<CallbackT> callbackContextType;
+    private final Invoker<HandlerT, ModelT, CallbackT> invoker;
+    private final List<FakeServiceBehavior> behaviors = new ArrayList<>();
+    private final AmazonWebServicesClientProxy proxy;
+    private final LoggerProxy logger = new LoggerProxy();
+    private final Serializer serializer = new Serializer();
+    @Getter
+    private final List<StepReport> steps = new ArrayList<>();
+
+    /**
+     * @param newCallbackContext  context of the first invocation of each step
+     * @param callbackContextType type the context is read back as between invocations
+     * @param invoker             calls the handler with the fakes' proxy clients
+     * @param behaviors           behaviors of the fakes, the first one's clock must be simulated and shared by all
+     */
+    public HandlerSimulator(final Supplier<CallbackT> newCallbackContext,
+                            final TypeReference<CallbackT> callbackContextType,
+                            final Invoker<HandlerT, ModelT, CallbackT> invoker,
+                            final FakeServiceBehavior... behaviors) {
+        this.clock = behaviors[0].getClock();
+        this.newCallbackContext = newCallbackContext;
+        this.callbackContextType = callbackContextType;
+        this.invoker = invoker;
+        // Fakes may share one behavior, count its calls once
+        final Set<FakeServiceBehavior> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final FakeServiceBehavior behavior : behaviors) {
+            if (distinct.add(behavior)) {
+                this.behaviors.add(behavior);
+            }
+        }
+        this.proxy = new AmazonWebServicesClientProxy(logger, new Credentials("accessKey", "secretKey", "token"),
+                DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, WaitStrategy.scheduleForCallbackStrategy());
+    }
+
+    /**
+     * Drives one CloudFormation operation to a terminal status and records it as a step of the scenario.
+     */
+    public ProgressEvent<ModelT, CallbackT> run(final String step,
+                                                final HandlerT handler,
+                                                final ResourceHandlerRequest<ModelT> request) {
+        final long startedAt = clock.millis();
+        final Map<String, Integer> callsBefore = callCounts();
+        ResourceHandlerRequest<ModelT> invocation = request;
+        CallbackT callbackContext = newCallbackContext.get();
+        ProgressEvent<ModelT, CallbackT> event;
+        int invocations = 0;
+        long waitedMillis = 0L;
+        while (true) {
+            invocations++;
+            event = invoker.invoke(handler, proxy, invocation, callbackContext, logger);
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                break;
+            }
+            if (invocations >= MAX_INVOCATIONS) {
+                throw new IllegalStateException(String.format("%s did not finish within %d invocations", step, MAX_INVOCATIONS));
+            }
+            final long delayMillis = event.getCallbackDelaySeconds() * 1000L;
+            clock.advance(delayMillis);
+            waitedMillis += delayMillis;
+            callbackContext = roundTrip(event.getCallbackContext());
+            if (event.getResourceModel() != null) {
+                invocation = invocation.toBuilder().desiredResourceState(event.getResourceModel()).build();
+            }
+        }
+        steps.add(StepReport.builder()
+                .step(step)
+                .status(event.getStatus())
+                .invocations(invocations)
+                .elapsedMillis(clock.millis() - startedAt)
+                .waitedMillis(waitedMillis)
+                .calls(difference(callCounts(), callsBefore))
+                .build());
+        return event;
+    }
+
+    /**
+     * Plain-text table of every step run so far and the scenario total.
+     */
+    public String report(final String scenario) {
+        final StringBuilder report = new StringBuilder(String.format("Scenario %s%n", scenario));
+        int invocations = 0;
+        long elapsedMillis = 0L;
+        final Map<String, Integer> calls = new TreeMap<>();
+        for (final StepReport step : steps) {
+            report.append(step.format());
+            invocations += step.getInvocations();
+            elapsedMillis += step.getElapsedMillis();
+            step.getCalls().forEach((operation, count) -> calls.merge(operation, count, Integer::sum));
+        }
+        report.append(String.format("  %-8s invocations=%d elapsed=%.1fs calls=%s%n", "total", invocations, elapsedMillis / 1000.0, calls));
+        return report.toString();
+    }
+
+    private Map<String, Integer> callCounts() {
+        final Map<String, Integer> counts = new TreeMap<>();
+        for (final FakeServiceBehavior behavior : behaviors) {
+            behavior.callCounts().forEach((operation, count) -> counts.merge(operation, count, Integer::sum));
+        }
+        return counts;
+    }
+
+    private static Map<String, Integer> difference(final Map<String, Integer> after, final Map<String, Integer> before) {
+        final Map<String, Integer> calls = new TreeMap<>();
+        after.forEach((operation, count) -> {
+            final int delta = count - before.getOrDefault(operation, 0);
+            if (delta > 0) {
+                calls.put(operation, delta);
+            }
+        });
+        return Collections.unmodifiableMap(calls);
+    }
+
+    private CallbackT roundTrip(final CallbackT callbackContext) {
+        try {
+            return serializer.deserialize(serializer.serialize(callbackContext), callbackContextType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class StepReport {
+        private final String step;
+        private final OperationStatus status;
+        private final int invocations;
+        private final long elapsedMillis;
+        private final long waitedMillis;
+        private final Map<String, Integer> calls;
+
+        public int totalCalls() {
+            return calls.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        private String format() {
+            return String.format("  %-8s %s invocations=%d elapsed=%.1fs waited=%.1fs calls=%s%n",
+                    step, status, invocations, elapsedMillis / 1000.0, waitedMillis / 1000.0, calls);
+        }
+    }
+}
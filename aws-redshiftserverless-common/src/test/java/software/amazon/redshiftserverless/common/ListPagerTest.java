@@ -0,0 +1,65 @@
+package software.amazon.redshiftserverless.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListPagerTest {
+
+    @Test
+    public void list_MergesPagesUpToThePageCap() {
+        final List<String> tokens = new ArrayList<>();
+        final ListPager.Result<String> result = new ListPager().list(null, null,
+                (nextToken, pageSize) -> {
+                    tokens.add(nextToken);
+                    assertThat(pageSize).isEqualTo(ListPager.MAX_RESULTS);
+                    return "page" + tokens.size();
+                },
+                page -> Arrays.asList(page + "a", page + "b"),
+                page -> page + "-next");
+
+        assertThat(tokens).hasSize(ListPager.MAX_PAGES_PER_INVOCATION).startsWith(null, "page1-next");
+        assertThat(result.getModels()).hasSize(2 * ListPager.MAX_PAGES_PER_INVOCATION);
+        assertThat(result.getNextToken()).isEqualTo("page" + ListPager.MAX_PAGES_PER_INVOCATION + "-next");
+    }
+
+    @Test
+    public void list_StopsWhenAnotherPageWouldNotFitTheTimeBudget() {
+        final AtomicLong now = new AtomicLong(0L);
+        final List<String> tokens = new ArrayList<>();
+        final ListPager.Result<String> result = new ListPager(now::get).list("token0", null,
+                (nextToken, pageSize) -> {
+                    tokens.add(nextToken);
+                    // each page takes 3s, so a third one could run past the 10s budget
+                    now.addAndGet(3000L);
+                    return "token" + tokens.size();
+                },
+                page -> Arrays.asList(page),
+                page -> page);
+
+        assertThat(tokens).containsExactly("token0", "token1");
+        assertThat(result.getModels()).containsExactly("token1", "token2");
+        assertThat(result.getNextToken()).isEqualTo("token2");
+    }
+
+    @Test
+    public void list_AsksOnlyForTheResultsStillMissing() {
+        final List<Integer> pageSizes = new ArrayList<>();
+        final ListPager.Result<String> result = new ListPager().list(null, 150,
+                (nextToken, pageSize) -> {
+                    pageSizes.add(pageSize);
+                    return pageSize;
+                },
+                pageSize -> Arrays.asList(new String[pageSize]),
+                pageSize -> "more");
+
+        assertThat(pageSizes).containsExactly(ListPager.MAX_RESULTS, 50);
+        assertThat(result.getModels()).hasSize(150);
+        assertThat(result.getNextToken()).isEqualTo("more");
+    }
+}
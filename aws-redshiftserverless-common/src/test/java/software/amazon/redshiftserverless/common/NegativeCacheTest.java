@@ -0,0 +1,31 @@
+package software.amazon.redshiftserverless.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NegativeCacheTest {
+
+    @Test
+    public void contains_UntilTtlElapsesOrInvalidated() {
+        final AtomicLong now = new AtomicLong(0L);
+        final NegativeCache<String> cache = new NegativeCache<>(Duration.ofMinutes(15L), now::get);
+
+        assertThat(cache.contains("us-east-1/111122223333")).isFalse();
+        cache.put("us-east-1/111122223333");
+        assertThat(cache.contains("us-east-1/111122223333")).isTrue();
+        assertThat(cache.contains("us-west-2/111122223333")).isFalse();
+
+        now.set(Duration.ofMinutes(15L).toNanos() - 1L);
+        assertThat(cache.contains("us-east-1/111122223333")).isTrue();
+        now.set(Duration.ofMinutes(15L).toNanos());
+        assertThat(cache.contains("us-east-1/111122223333")).isFalse();
+
+        cache.put("us-east-1/111122223333");
+        cache.invalidate("us-east-1/111122223333");
+        assertThat(cache.contains("us-east-1/111122223333")).isFalse();
+    }
+}
@@ -1,36 +1,119 @@
 package software.amazon.redshiftserverless.namespace;
 
 import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
-import software.amazon.awssdk.services.redshiftserverless.model.AccessDeniedException;
-import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
 import software.amazon.awssdk.services.redshiftserverless.model.CreateSnapshotCopyConfigurationRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.CreateSnapshotCopyConfigurationResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
 import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.redshiftserverless.model.Namespace;
 import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.redshiftserverless.model.TooManyTagsException;
-import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.redshiftserverless.common.AdaptiveDelay;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+import software.amazon.redshiftserverless.common.ApiRateLimiter;
+import software.amazon.redshiftserverless.common.ErrorClassifier;
+import software.amazon.redshiftserverless.common.NegativeCache;
 
 import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  protected static final String RESOURCE_TYPE = "AWS::RedshiftServerless::Namespace";
+  protected static final String SERVICE_NAME = "redshift-serverless";
+  protected static final String REDSHIFT_SERVICE_NAME = "redshift";
+
+  static {
+    // Handlers are built while the function initializes, so the hook is in place before a SnapStart checkpoint
+    Priming.register();
+  }
+
+  /*
+  Region/account pairs where GetResourcePolicy is unsupported or not authorized, shared by every invocation in the
+  container. Reads of namespaces without a policy in the template skip the call while the entry is live.
+   */
+  protected static final NegativeCache<String> RESOURCE_POLICY_UNAVAILABLE = new NegativeCache<>(Duration.ofMinutes(15L));
+
+  /*
+  Regions where ListSnapshotCopyConfigurations fails with ValidationException because cross-region snapshot copy is
+  not available. Reads of namespaces without snapshot copy configurations in the template skip the call.
+   */
+  protected static final NegativeCache<String> SNAPSHOT_COPY_UNAVAILABLE = new NegativeCache<>(Duration.ofMinutes(15L));
+
+  /*
+  Bounded pool for calls started with startCall, which run on the invocation's synchronous proxy client. When the
+  queue is full the calling thread runs the call itself, which degrades to the sequential call instead of failing.
+   */
+  private static final int CONCURRENT_POOL_SIZE = 2;
+  private static final ExecutorService CONCURRENT_EXECUTOR = new ThreadPoolExecutor(
+          CONCURRENT_POOL_SIZE, CONCURRENT_POOL_SIZE, 60L, TimeUnit.SECONDS,
+          new ArrayBlockingQueue<>(16),
+          runnable -> {
+            Thread thread = new Thread(runnable, "namespace-concurrent-call");
+            thread.setDaemon(true);
+            return thread;
+          },
+          new ThreadPoolExecutor.CallerRunsPolicy());
+
   protected Logger logger;
   protected final String NAMESPACE_STATUS_AVAILABLE = "available";
-  protected static final Constant BACKOFF_STRATEGY = Constant.of().
-          timeout(Duration.ofMinutes(30L)).delay(Duration.ofSeconds(10L)).build();
+
+  /**
+   * Kind of change being stabilized. Each one polls on a schedule that matches how long it usually takes.
+   */
+  protected enum StabilizeOperation {
+    CREATE,
+    UPDATE,
+    DELETE
+  }
+
+  private static final Delay CREATE_BACKOFF_STRATEGY = AdaptiveDelay.of()
+          .timeout(Duration.ofMinutes(30L))
+          .initialDelay(Duration.ofSeconds(5L))
+          .fastAttempts(3)
+          .maxDelay(Duration.ofSeconds(30L))
+          .build();
+
+  private static final Delay UPDATE_BACKOFF_STRATEGY = AdaptiveDelay.of()
+          .timeout(Duration.ofMinutes(30L))
+          .initialDelay(Duration.ofSeconds(5L))
+          .fastAttempts(3)
+          .maxDelay(Duration.ofSeconds(20L))
+          .build();
+
+  private static final Delay DELETE_BACKOFF_STRATEGY = AdaptiveDelay.of()
+          .timeout(Duration.ofMinutes(30L))
+          .initialDelay(Duration.ofSeconds(5L))
+          .fastAttempts(3)
+          .maxDelay(Duration.ofSeconds(30L))
+          .build();
+
+  protected static Delay backoffStrategy(final StabilizeOperation operation) {
+    switch (operation) {
+      case CREATE:
+        return CREATE_BACKOFF_STRATEGY;
+      case UPDATE:
+        return UPDATE_BACKOFF_STRATEGY;
+      case DELETE:
+        return DELETE_BACKOFF_STRATEGY;
+      default:
+        throw new IllegalArgumentException("Unknown stabilize operation " + operation);
+    }
+  }
 
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -38,14 +121,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      proxy.newProxy(ClientBuilder::redshiftClient),
-      logger
-    );
+    // Wrapped inside the rate limiters so the recorded latency excludes time spent waiting for a permit
+    final ApiMetrics metrics = new ApiMetrics(RESOURCE_TYPE, getClass().getSimpleName());
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+    final ApiRateLimiter serverlessRateLimiter = ApiRateLimiter.forAccountAndRegion(SERVICE_NAME, request.getAwsAccountId(), request.getRegion());
+    context.setMetrics(metrics);
+    try {
+      return handleRequest(
+        proxy,
+        request,
+        context,
+        serverlessRateLimiter.wrap(metrics.wrap(proxy.newProxy(ClientBuilder::getClient))),
+        ApiRateLimiter.forAccountAndRegion(REDSHIFT_SERVICE_NAME, request.getAwsAccountId(), request.getRegion())
+          .wrap(metrics.wrap(proxy.newProxy(ClientBuilder::redshiftClient))),
+        logger
+      );
+    } finally {
+      metrics.log(logger);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -56,6 +149,55 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ProxyClient<RedshiftClient> redshiftProxyClient,
     final Logger logger);
 
+  /**
+   * Key of {@link #RESOURCE_POLICY_UNAVAILABLE} for the request, or null when the request does not say which region
+   * and account it is for and nothing may be cached for it.
+   */
+  protected static String resourcePolicyCacheKey(final ResourceHandlerRequest<ResourceModel> request) {
+    if (request.getRegion() == null || request.getAwsAccountId() == null) {
+      return null;
+    }
+    return String.join("/", request.getRegion(), request.getAwsAccountId());
+  }
+
+  /**
+   * Starts a Redshift Serverless call that does not depend on the steps before it, so it runs while the chain carries
+   * on. The step that needs the response picks it up with {@link #await(CompletableFuture)}, and the handler waits
+   * for it with {@link #settle(CompletableFuture[])} before returning.
+   * @param call the call through the invocation's proxy client, run on a bounded pool
+   * @return the response, or the service exception it failed with
+   */
+  protected static <ResponseT> CompletableFuture<ResponseT> startCall(final Supplier<ResponseT> call) {
+    return CompletableFuture.supplyAsync(call, CONCURRENT_EXECUTOR);
+  }
+
+  /**
+   * Response of a call started with startCall. Fails with the original service exception rather than the
+   * CompletionException wrapping it, so error handlers see the same type as for a direct call.
+   */
+  protected static <T> T await(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Waits for calls started with startCall whether or not a step used them, e.g. when an earlier step failed.
+   * Never leave a call in flight when the handler returns, the container may be frozen right after.
+   */
+  protected static void settle(final CompletableFuture<?>... futures) {
+    for (final CompletableFuture<?> future : futures) {
+      if (future != null) {
+        future.handle((response, exception) -> response).join();
+      }
+    }
+  }
+
   protected boolean isNamespaceActive (final ProxyClient<RedshiftServerlessClient> proxyClient, ResourceModel resourceModel, CallbackContext context) {
     GetNamespaceRequest getNamespaceRequest = GetNamespaceRequest.builder().namespaceName(resourceModel.getNamespaceName()).build();
     GetNamespaceResponse getNamespaceResponse = proxyClient.injectCredentialsAndInvokeV2(getNamespaceRequest, proxyClient.client()::getNamespace);
@@ -64,7 +206,25 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       return false;
     }
 
-    return NAMESPACE_STATUS_AVAILABLE.equalsIgnoreCase(getNamespaceResponse.namespace().statusAsString());
+    boolean isActive = NAMESPACE_STATUS_AVAILABLE.equalsIgnoreCase(getNamespaceResponse.namespace().statusAsString());
+    if (isActive) {
+      context.setStabilizedNamespaceResponse(getNamespaceResponse);
+    }
+    return isActive;
+  }
+
+  /**
+   * Returns the GetNamespace response seen by the stabilizer earlier in this invocation, or null if there is none
+   * for the requested namespace and it has to be read again.
+   */
+  protected GetNamespaceResponse stabilizedNamespaceResponse(final GetNamespaceRequest getNamespaceRequest, final CallbackContext context) {
+    GetNamespaceResponse stabilizedResponse = context.getStabilizedNamespaceResponse();
+    if (stabilizedResponse == null ||
+            !Objects.equals(stabilizedResponse.namespace().namespaceName(), getNamespaceRequest.namespaceName())) {
+      return null;
+    }
+    logger.log(String.format("%s %s has been read during stabilization.", ResourceModel.TYPE_NAME, getNamespaceRequest.namespaceName()));
+    return stabilizedResponse;
   }
 
   protected boolean isNamespaceActiveAfterDelete (final ProxyClient<RedshiftServerlessClient> proxyClient, ResourceModel resourceModel, CallbackContext context) {
@@ -101,23 +261,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> errorHandler(final Exception exception) {
-    if (exception instanceof ValidationException) {
-      return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
-    } else if (exception instanceof AccessDeniedException) {
-      return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.AccessDenied);
-    } else if (exception instanceof InternalServerException) {
-      return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.ServiceInternalError);
-    } else if (exception instanceof ResourceNotFoundException) {
-      return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
-    } else if (exception instanceof TooManyTagsException || exception instanceof ServiceQuotaExceededException) {
-      return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.ServiceLimitExceeded);
-    } else if (exception instanceof ConflictException) {
-      if (exception.getMessage().contains("already exists")) {
-        return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.AlreadyExists);
-      }
-      return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.ResourceConflict);
-    } else {
-      return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
-    }
+    return ErrorClassifier.failure(exception);
   }
 }
@@ -1,6 +1,9 @@
 package software.amazon.redshiftserverless.namespace;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.redshiftserverless.common.ApiMetrics;
 
 @lombok.Getter
 @lombok.Setter
@@ -10,6 +13,23 @@ public class CallbackContext extends StdCallbackContext {
     String namespaceArn = null;
     boolean callBackForDelete = false;
 
+    /*
+    Last GetNamespace response that reported the namespace as available during this invocation, so the reads that
+    follow can reuse it. It is never serialized: a re-invoked handler starts without it and reads the namespace again.
+     */
+    @lombok.Getter(lombok.AccessLevel.NONE)
+    @lombok.Setter(lombok.AccessLevel.NONE)
+    @lombok.ToString.Exclude
+    transient GetNamespaceResponse stabilizedNamespaceResponse;
+
+    /*
+    Metrics of the running invocation, for steps that skip a call and still want it counted. Never serialized.
+     */
+    @lombok.Getter(lombok.AccessLevel.NONE)
+    @lombok.Setter(lombok.AccessLevel.NONE)
+    @lombok.ToString.Exclude
+    transient ApiMetrics metrics;
+
     public void setNamespaceArn(String namespaceArn) {this.namespaceArn = namespaceArn; }
 
     public String getNamespaceArn() { return namespaceArn; }
@@ -21,4 +41,24 @@ public class CallbackContext extends StdCallbackContext {
     public boolean getCallBackForDelete() {
         return callBackForDelete;
     }
+
+    @JsonIgnore
+    public GetNamespaceResponse getStabilizedNamespaceResponse() {
+        return stabilizedNamespaceResponse;
+    }
+
+    @JsonIgnore
+    public void setStabilizedNamespaceResponse(GetNamespaceResponse stabilizedNamespaceResponse) {
+        this.stabilizedNamespaceResponse = stabilizedNamespaceResponse;
+    }
+
+    @JsonIgnore
+    public ApiMetrics getMetrics() {
+        return metrics;
+    }
+
+    @JsonIgnore
+    public void setMetrics(ApiMetrics metrics) {
+        this.metrics = metrics;
+    }
 }
@@ -1,21 +1,36 @@
 package software.amazon.redshiftserverless.namespace;
 
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.redshiftserverless.common.ClientCache;
 
-import java.util.function.Supplier;
+import java.net.URI;
 
+/**
+ * Hands out SDK clients that live for the lifetime of the container, see {@link ClientCache}.
+ */
 public class ClientBuilder {
 
+    private static final ClientCache<RedshiftServerlessClient> SERVERLESS_CLIENTS =
+            new ClientCache<>(() -> RedshiftServerlessClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT));
+    private static final ClientCache<RedshiftClient> REDSHIFT_CLIENTS =
+            new ClientCache<>(() -> RedshiftClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT));
+
     public static RedshiftServerlessClient getClient() {
-    return RedshiftServerlessClient.builder()
-            .httpClient(LambdaWrapper.HTTP_CLIENT)
-            .build();
-  }
+        return getClient(null, null);
+    }
+
+    public static RedshiftServerlessClient getClient(final Region region, final URI endpointOverride) {
+        return SERVERLESS_CLIENTS.get(region, endpointOverride);
+    }
+
     public static RedshiftClient redshiftClient() {
-        return RedshiftClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return redshiftClient(null, null);
+    }
+
+    public static RedshiftClient redshiftClient(final Region region, final URI endpointOverride) {
+        return REDSHIFT_CLIENTS.get(region, endpointOverride);
     }
 }
@@ -39,7 +39,8 @@ public class CreateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> {
                 return proxy.initiate("AWS-RedshiftServerless-Namespace::Create", proxyClient, progress.getResourceModel(), callbackContext)
-                    .translateToServiceRequest(Translator::translateToCreateRequest)
+                    .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, TagHelper.generateTagsForCreate(model, request)))
+                    .backoffDelay(backoffStrategy(StabilizeOperation.CREATE))
                     .makeServiceCall(this::createNamespace)
                     .stabilize((_awsRequest, _awsResponse, _client, _model, _context) -> isNamespaceActive(_client, _model, _context))
                     .handleError(this::defaultErrorHandler)
@@ -1,6 +1,7 @@
 package software.amazon.redshiftserverless.namespace;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
 import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
 import software.amazon.awssdk.services.redshiftserverless.model.ListNamespacesResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
@@ -10,12 +11,16 @@ import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorExceptio
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListNamespacesRequest;
-import java.util.List;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+import software.amazon.redshiftserverless.common.ApiRateLimiter;
+import software.amazon.redshiftserverless.common.ListPager;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
+    private final ListPager pager = new ListPager();
     private Logger logger;
 
     @Override
@@ -26,22 +31,31 @@ public class ListHandler extends BaseHandler<CallbackContext> {
         final Logger logger) {
 
         this.logger = logger;
-        ListNamespacesRequest listNamespacesRequest = Translator.translateToListRequest(request.getNextToken());
-        ListNamespacesResponse listNamespacesResponse = listNamespaces(listNamespacesRequest, proxy);
-        final List<ResourceModel> models = Translator.translateFromListRequest(listNamespacesResponse);
+        // Wrapped inside the rate limiter so the recorded latency excludes time spent waiting for a permit
+        final ApiMetrics metrics = new ApiMetrics(BaseHandlerStd.RESOURCE_TYPE, getClass().getSimpleName());
+        final ProxyClient<RedshiftServerlessClient> proxyClient = ApiRateLimiter.forAccountAndRegion(BaseHandlerStd.SERVICE_NAME,
+            request.getAwsAccountId(), request.getRegion()).wrap(metrics.wrap(proxy.newProxy(ClientBuilder::getClient)));
+        try {
+            final ListPager.Result<ResourceModel> result = pager.list(request.getNextToken(), request.getMaxResults(),
+                (nextToken, pageSize) -> listNamespaces(Translator.translateToListRequest(nextToken, pageSize), proxyClient),
+                Translator::translateFromListRequest,
+                ListNamespacesResponse::nextToken);
 
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
-            .nextToken(listNamespacesResponse.nextToken())
-            .status(OperationStatus.SUCCESS)
-            .build();
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(result.getModels())
+                .nextToken(result.getNextToken())
+                .status(OperationStatus.SUCCESS)
+                .build();
+        } finally {
+            metrics.log(logger);
+        }
     }
 
     private ListNamespacesResponse listNamespaces(final ListNamespacesRequest listNamespacesRequest,
-                                                  final AmazonWebServicesClientProxy proxy) {
+                                                  final ProxyClient<RedshiftServerlessClient> proxyClient) {
         ListNamespacesResponse listNamespacesResponse;
         try {
-            listNamespacesResponse = proxy.injectCredentialsAndInvokeV2(listNamespacesRequest, ClientBuilder.getClient()::listNamespaces);
+            listNamespacesResponse = proxyClient.injectCredentialsAndInvokeV2(listNamespacesRequest, proxyClient.client()::listNamespaces);
         } catch (final InternalServerException e) {
             throw new CfnServiceInternalErrorException(e);
         } catch (final ValidationException e){
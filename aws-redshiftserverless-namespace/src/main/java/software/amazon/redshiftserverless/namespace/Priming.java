@@ -0,0 +1,235 @@
+package software.amazon.redshiftserverless.namespace;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.NamespaceStatus;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * SnapStart checkpoint hook. Before the snapshot is taken it runs the code every first invocation would otherwise
+ * pay for: building both SDK clients, the Translator paths including the resource policy JSON, JSON
+ * (de)serialization of the model and callback context, and a read through the handler chain on both its success and
+ * exception paths. Service calls are answered with canned responses, nothing goes over the network and no
+ * credentials are needed.
+ */
+public class Priming implements Resource {
+    private static final Priming INSTANCE = new Priming();
+    private static final Logger LOGGER = System.out::println;
+    private static final Region PRIMING_REGION = Region.US_EAST_1;
+    private static final String NAMESPACE_NAME = "priming";
+    private static final String NAMESPACE_ARN =
+            "arn:aws:redshift-serverless:us-east-1:123456789012:namespace/00000000-0000-0000-0000-000000000000";
+    private static final String POLICY =
+            "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Principal\":{\"AWS\":\"123456789012\"},"
+                    + "\"Action\":\"redshift-serverless:RestoreFromSnapshot\",\"Resource\":\"*\"}]}";
+    private static final TypeReference<ResourceModel> RESOURCE_MODEL_TYPE = new TypeReference<ResourceModel>() { };
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT_TYPE = new TypeReference<CallbackContext>() { };
+
+    /**
+     * The global context only keeps weak references, the static instance keeps the hook alive.
+     */
+    static void register() {
+        Core.getGlobalContext().register(INSTANCE);
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        prime(LOGGER);
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+    }
+
+    /**
+     * Runs every priming step. A failing step is logged and skipped, priming must never fail the checkpoint.
+     *
+     * @return true when every step completed
+     */
+    static boolean prime(final Logger logger) {
+        boolean primed = step("clients", Priming::primeClients, logger);
+        primed &= step("translator", Priming::primeTranslator, logger);
+        primed &= step("serializer", Priming::primeSerializer, logger);
+        primed &= step("read handler", Priming::primeReadHandler, logger);
+        return primed;
+    }
+
+    private static boolean step(final String name, final Runnable step, final Logger logger) {
+        try {
+            step.run();
+            return true;
+        } catch (RuntimeException e) {
+            logger.log(String.format("Priming step %s failed: %s", name, e));
+            return false;
+        }
+    }
+
+    private static void primeClients() {
+        serverlessClient();
+        redshiftClient();
+    }
+
+    /**
+     * The clients the handlers use. Lambda always sets AWS_REGION; without it the default chain would fall back to
+     * instance metadata, so the clients are built for a fixed region instead and the same classes still get loaded.
+     */
+    private static RedshiftServerlessClient serverlessClient() {
+        return SdkSystemSetting.AWS_REGION.getStringValue().isPresent()
+                ? ClientBuilder.getClient()
+                : ClientBuilder.getClient(PRIMING_REGION, null);
+    }
+
+    private static RedshiftClient redshiftClient() {
+        return SdkSystemSetting.AWS_REGION.getStringValue().isPresent()
+                ? ClientBuilder.redshiftClient()
+                : ClientBuilder.redshiftClient(PRIMING_REGION, null);
+    }
+
+    private static void primeTranslator() {
+        final Logger discard = message -> { };
+        final ResourceModel model = resourceModel();
+        final SnapshotCopyConfiguration snapshotCopyConfiguration = model.getSnapshotCopyConfigurations().get(0);
+        Translator.translateToCreateRequest(model);
+        Translator.translateToUpdateRequest(model);
+        Translator.translateToDeleteRequest(model);
+        Translator.translateToListRequest(null, null);
+        Translator.translateToPutResourcePolicy(model, NAMESPACE_ARN, discard);
+        Translator.convertStringToJson(POLICY, discard);
+        Translator.translateToCreateSnapshotCopyConfigurationRequest(model, snapshotCopyConfiguration);
+
+        final Map<String, SnapshotCopyConfiguration> desired = new HashMap<>();
+        desired.put(snapshotCopyConfiguration.getDestinationRegion(), snapshotCopyConfiguration);
+        UpdateHandler.getSnapshotCopyConfigurationDiff(desired, new HashMap<>(), new HashMap<>());
+    }
+
+    private static void primeSerializer() {
+        final Serializer serializer = new Serializer();
+        try {
+            serializer.deserialize(serializer.serialize(resourceModel()), RESOURCE_MODEL_TYPE);
+            serializer.deserialize(serializer.serialize(new CallbackContext()), CALLBACK_CONTEXT_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads an existing namespace without a resource policy and a missing namespace, then round-trips the callback
+     * context holding the cached responses the way it is handed back to CloudFormation between invocations.
+     */
+    private static void primeReadHandler() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("priming", "priming", "priming"), () -> 0L);
+        final RedshiftServerlessClient client = serverlessClient();
+        final ProxyClient<RedshiftClient> redshiftProxyClient = cannedProxyClient(redshiftClient(), awsRequest -> {
+            throw software.amazon.awssdk.services.redshift.model.ResourceNotFoundException.builder()
+                    .message("Resource policy not found for " + NAMESPACE_ARN)
+                    .build();
+        });
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().namespaceName(NAMESPACE_NAME).build())
+                .awsAccountId("123456789012")
+                .region(PRIMING_REGION.id())
+                .build();
+        final Logger discard = message -> { };
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> found = new ReadHandler().handleRequest(proxy, request, callbackContext,
+                cannedProxyClient(client, awsRequest -> awsRequest instanceof GetNamespaceRequest
+                        ? getNamespaceResponse()
+                        : ListSnapshotCopyConfigurationsResponse.builder().snapshotCopyConfigurations(Collections.emptyList()).build()),
+                redshiftProxyClient, discard);
+        new ReadHandler().handleRequest(proxy, request, new CallbackContext(),
+                cannedProxyClient(client, awsRequest -> {
+                    throw ResourceNotFoundException.builder().message("Namespace " + NAMESPACE_NAME + " not found").build();
+                }),
+                redshiftProxyClient, discard);
+
+        final Serializer serializer = new Serializer();
+        try {
+            serializer.deserialize(serializer.serialize(callbackContext), CALLBACK_CONTEXT_TYPE);
+            serializer.serialize(found);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        new ApiMetrics(BaseHandlerStd.RESOURCE_TYPE, ReadHandler.class.getSimpleName()).toEmfJson();
+    }
+
+    /**
+     * Answers every call from the responder and never invokes the SDK, so the request function is ignored.
+     */
+    private static <ClientT> ProxyClient<ClientT> cannedProxyClient(final ClientT client,
+                                                                    final Function<AwsRequest, AwsResponse> responder) {
+        return new ProxyClient<ClientT>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return (ResponseT) responder.apply(request);
+            }
+
+            @Override
+            public ClientT client() {
+                return client;
+            }
+        };
+    }
+
+    private static ResourceModel resourceModel() {
+        return ResourceModel.builder()
+                .namespaceName(NAMESPACE_NAME)
+                .adminUsername("admin")
+                .dbName("dev")
+                .iamRoles(Collections.singletonList("arn:aws:iam::123456789012:role/priming"))
+                .logExports(Collections.singletonList("userlog"))
+                .namespaceResourcePolicy(Translator.convertStringToJson(POLICY, message -> { }))
+                .snapshotCopyConfigurations(Collections.singletonList(SnapshotCopyConfiguration.builder()
+                        .destinationRegion("us-west-2")
+                        .snapshotRetentionPeriod(7)
+                        .build()))
+                .build();
+    }
+
+    private static GetNamespaceResponse getNamespaceResponse() {
+        return GetNamespaceResponse.builder()
+                .namespace(software.amazon.awssdk.services.redshiftserverless.model.Namespace.builder()
+                        .namespaceName(NAMESPACE_NAME)
+                        .namespaceArn(NAMESPACE_ARN)
+                        .namespaceId("00000000-0000-0000-0000-000000000000")
+                        .adminUsername("admin")
+                        .dbName("dev")
+                        .iamRoles("IamRole(applyStatus=in-sync, iamRoleArn=arn:aws:iam::123456789012:role/priming)")
+                        .logExportsWithStrings("userlog")
+                        .status(NamespaceStatus.AVAILABLE)
+                        .creationDate(Instant.EPOCH)
+                        .build())
+                .build();
+    }
+}
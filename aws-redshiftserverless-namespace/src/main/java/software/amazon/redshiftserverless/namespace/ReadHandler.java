@@ -8,6 +8,7 @@ import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequ
 import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
 import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
 import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -17,6 +18,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class ReadHandler extends BaseHandlerStd {
     private final String GET_RESOURCE_POLICY_ERROR = "not authorized to perform: redshift:GetResourcePolicy";
     private final Integer GET_RESOURCE_POLICY_ERR_STATUS_CODE = 403;
@@ -24,6 +28,9 @@ public class ReadHandler extends BaseHandlerStd {
     private final Integer RESOURCE_POLICY_UNSUPPORTED_ERR_STATUS_CODE = 400;
     private boolean containsResourcePolicy = false;
     private boolean containsSnapshotCopyConfigurations = false;
+    private String resourcePolicyCacheKey;
+    private String snapshotCopyCacheKey;
+    private boolean skipSnapshotCopyConfigurations = false;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -44,20 +51,64 @@ public class ReadHandler extends BaseHandlerStd {
          */
         containsResourcePolicy = model.getNamespaceResourcePolicy() != null;
         containsSnapshotCopyConfigurations = model.getSnapshotCopyConfigurations() != null;
+        resourcePolicyCacheKey = resourcePolicyCacheKey(request);
+        snapshotCopyCacheKey = request.getRegion();
+        // The ValidationException would be treated as success anyway, skip the call while the region is known to fail it
+        skipSnapshotCopyConfigurations = !containsSnapshotCopyConfigurations && snapshotCopyCacheKey != null
+                && SNAPSHOT_COPY_UNAVAILABLE.contains(snapshotCopyCacheKey);
+
+        // Started once GetNamespace has found the namespace, picked up by the last step of the chain below
+        final AtomicReference<CompletableFuture<ListSnapshotCopyConfigurationsResponse>> listSnapshotCopyConfigurationsFuture = new AtomicReference<>();
+        try {
+            return readNamespace(proxy, model, callbackContext, proxyClient, redshiftProxyClient, listSnapshotCopyConfigurationsFuture);
+        } finally {
+            settle(listSnapshotCopyConfigurationsFuture.get());
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> readNamespace(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<RedshiftServerlessClient> proxyClient,
+        final ProxyClient<RedshiftClient> redshiftProxyClient,
+        final AtomicReference<CompletableFuture<ListSnapshotCopyConfigurationsResponse>> listSnapshotCopyConfigurationsFuture) {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> {
                     progress = proxy.initiate("AWS-RedshiftServerless-Namespace::Read", proxyClient, model, callbackContext)
                         .translateToServiceRequest(Translator::translateToReadRequest)
-                        .makeServiceCall(this::getNamespace)
+                        .makeServiceCall((getNamespaceRequest, client) -> getNamespace(getNamespaceRequest, client, callbackContext))
                         .handleError(this::defaultErrorHandler)
                         .done(awsResponse -> {
                             callbackContext.setNamespaceArn(awsResponse.namespace().namespaceArn());
+                            /*
+                            ListSnapshotCopyConfigurations only needs the namespace name, so it runs alongside
+                            GetResourcePolicy. It waits for GetNamespace so reads of a missing namespace, e.g. the
+                            ones Delete makes, do not pay for a second failing call.
+                             */
+                            if (!skipSnapshotCopyConfigurations) {
+                                final ListSnapshotCopyConfigurationsRequest listSnapshotCopyConfigurationsRequest =
+                                        Translator.translateToListSnapshotCopyConfigurationsRequest(model);
+                                listSnapshotCopyConfigurationsFuture.set(startCall(
+                                        () -> listSnapshotCopyConfigurations(listSnapshotCopyConfigurationsRequest, proxyClient)));
+                            }
                             return ProgressEvent.progress(Translator.translateFromReadResponse(awsResponse), callbackContext);
                         });
                     return progress;
                 })
                 .then(progress -> {
+                    /*
+                    The error would be suppressed anyway when the template has no policy, so skip the call while this
+                    region/account is known not to support it. A template with a policy always reads it.
+                     */
+                    if (!containsResourcePolicy && resourcePolicyCacheKey != null && RESOURCE_POLICY_UNAVAILABLE.contains(resourcePolicyCacheKey)) {
+                        logger.log(String.format("Skipping GetResourcePolicy, resource policies are unavailable for %s", resourcePolicyCacheKey));
+                        if (callbackContext.getMetrics() != null) {
+                            callbackContext.getMetrics().recordNegativeCacheHit("GetResourcePolicy");
+                        }
+                        return progress;
+                    }
                     return proxy.initiate("AWS-Redshift-ResourcePolicy::Get", redshiftProxyClient, progress.getResourceModel(), callbackContext)
                         .translateToServiceRequest(resourceModelRequest -> Translator.translateToGetResourcePolicy(resourceModelRequest, callbackContext.getNamespaceArn()))
                         .makeServiceCall(this::getNamespaceResourcePolicy)
@@ -67,11 +118,21 @@ public class ReadHandler extends BaseHandlerStd {
                         });
                 })
                 .then(progress -> {
+                    if (skipSnapshotCopyConfigurations) {
+                        logger.log(String.format("Skipping ListSnapshotCopyConfigurations, CRC feature is not enabled for %s", snapshotCopyCacheKey));
+                        if (callbackContext.getMetrics() != null) {
+                            callbackContext.getMetrics().recordNegativeCacheHit("ListSnapshotCopyConfigurations");
+                        }
+                        return ProgressEvent.defaultSuccessHandler(progress.getResourceModel());
+                    }
                     return proxy.initiate("AWS-RedshiftServerless-Namespace::SnapshotCopyConfigurations::List", proxyClient, progress.getResourceModel(), callbackContext)
                             .translateToServiceRequest(Translator::translateToListSnapshotCopyConfigurationsRequest)
-                            .makeServiceCall(this::listSnapshotCopyConfigurations)
+                            .makeServiceCall((_request, _client) -> await(listSnapshotCopyConfigurationsFuture.get()))
                             .handleError(this::listSnapshotCopyConfigurationErrorHandler)
                             .done((_request, _response, _client, _model, _context) -> {
+                                if (snapshotCopyCacheKey != null) {
+                                    SNAPSHOT_COPY_UNAVAILABLE.invalidate(snapshotCopyCacheKey);
+                                }
                                 _model.setSnapshotCopyConfigurations(Translator.translateToSnapshotCopyConfigurations(_response.snapshotCopyConfigurations()));
                                 return ProgressEvent.defaultSuccessHandler(_model);
                             });
@@ -79,8 +140,14 @@ public class ReadHandler extends BaseHandlerStd {
     }
 
     private GetNamespaceResponse getNamespace(final GetNamespaceRequest getNamespaceRequest,
-                                               final ProxyClient<RedshiftServerlessClient> proxyClient) {
-        GetNamespaceResponse getNamespaceResponse = null;
+                                               final ProxyClient<RedshiftServerlessClient> proxyClient,
+                                               final CallbackContext callbackContext) {
+        // Create/Update end with a read right after stabilizing, reuse what the stabilizer just fetched
+        GetNamespaceResponse getNamespaceResponse = stabilizedNamespaceResponse(getNamespaceRequest, callbackContext);
+        if (getNamespaceResponse != null) {
+            callbackContext.setStabilizedNamespaceResponse(null);
+            return getNamespaceResponse;
+        }
 
         logger.log(String.format("%s %s getNamespaces.", ResourceModel.TYPE_NAME, getNamespaceRequest.namespaceName()));
         getNamespaceResponse = proxyClient.injectCredentialsAndInvokeV2(getNamespaceRequest, proxyClient.client()::getNamespace);
@@ -122,6 +189,7 @@ public class ReadHandler extends BaseHandlerStd {
           if(!containsResourcePolicy) {
               logger.log(String.format("Template does not have resource policy, " +
                       "InvalidPolicyException or UnsupportedOpoerationException: %s", e.getMessage()));
+              rememberIfUnavailable(e);
               return noOpNamespaceResourcePoliy(awsRequest);
           } else {
               throw new CfnInvalidRequestException(ResourceModel.TYPE_NAME, e);
@@ -142,6 +210,7 @@ public class ReadHandler extends BaseHandlerStd {
              */
             if(!containsResourcePolicy) {
                 logger.log(String.format("Template does not have resource policy, RedshiftException: %s", e.getMessage()));
+                rememberIfUnavailable(e);
                 return noOpNamespaceResourcePoliy(awsRequest);
             } else {
                 throw new CfnGeneralServiceException(e);
@@ -150,9 +219,27 @@ public class ReadHandler extends BaseHandlerStd {
             throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
         }
         logger.log(String.format("%s  resource policy has successfully been read.", ResourceModel.TYPE_NAME));
+        if (resourcePolicyCacheKey != null) {
+            RESOURCE_POLICY_UNAVAILABLE.invalidate(resourcePolicyCacheKey);
+        }
         return getResponse;
     }
 
+    /**
+     * Caches errors that will not go away on retry: the feature missing in the region or the permission missing for
+     * the caller. Throttles, invalid policies and service errors are left to the next read.
+     * @param e the exception GetResourcePolicy failed with
+     */
+    private void rememberIfUnavailable(final RedshiftException e) {
+        final String message = e.getMessage() == null ? "" : e.getMessage();
+        final boolean unsupported = e instanceof UnsupportedOperationException
+                || (RESOURCE_POLICY_UNSUPPORTED_ERR_STATUS_CODE.equals(e.statusCode()) && message.contains(RESOURCE_POLICY_UNSUPPORTED_ERROR));
+        final boolean unauthorized = GET_RESOURCE_POLICY_ERR_STATUS_CODE.equals(e.statusCode()) || message.contains(GET_RESOURCE_POLICY_ERROR);
+        if (resourcePolicyCacheKey != null && (unsupported || unauthorized)) {
+            RESOURCE_POLICY_UNAVAILABLE.put(resourcePolicyCacheKey);
+        }
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> listSnapshotCopyConfigurationErrorHandler(final ListSnapshotCopyConfigurationsRequest request,
                                                                                                     final Exception exception,
                                                                                                     final ProxyClient<RedshiftServerlessClient> client,
@@ -161,6 +248,9 @@ public class ReadHandler extends BaseHandlerStd {
         if (exception instanceof ValidationException) {
             // ValidationException is thrown when the feature is not enabled in a region
             logger.log(String.format("CRC feature is not enabled for this region: %s", exception.getMessage()));
+            if (snapshotCopyCacheKey != null) {
+                SNAPSHOT_COPY_UNAVAILABLE.put(snapshotCopyCacheKey);
+            }
             return ProgressEvent.defaultSuccessHandler(model);
         } else if (!containsSnapshotCopyConfigurations) {
             // This error handling is required for backward compatibility. Without this exception handling,
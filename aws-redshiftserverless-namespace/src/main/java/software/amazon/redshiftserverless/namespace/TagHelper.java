@@ -3,27 +3,23 @@ package software.amazon.redshiftserverless.namespace;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.google.common.collect.Sets;
+import com.google.common.collect.Lists;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import software.amazon.awssdk.awscore.AwsResponse;
-import software.amazon.awssdk.core.SdkClient;
-// TODO: Critical! Please replace the CloudFormation Tag model below with your service's own SDK Tag model
-import software.amazon.awssdk.services.cloudformation.model.Tag;
-import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
-import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class TagHelper {
+    // TagResource takes at most 200 tags and UntagResource at most 200 keys per call
+    static final int MAX_TAGS_PER_CALL = 200;
+    // Reserved for system tags, which can be set on create but never added or removed afterwards
+    private static final String SYSTEM_TAG_PREFIX = "aws:";
+
     /**
      * convertToMap
      *
@@ -40,34 +36,28 @@ public class TagHelper {
             return Collections.emptyMap();
         }
         return tags.stream()
-            .filter(tag -> tag.value() != null)
+            .filter(tag -> tag.getValue() != null)
             .collect(Collectors.toMap(
-                Tag::key,
-                Tag::value,
+                Tag::getKey,
+                Tag::getValue,
                 (oldValue, newValue) -> newValue));
     }
 
     /**
-     * convertToSet
-     *
-     * Converts a tag map to a set of Tag objects.
-     *
-     * Note: Like convertToMap, convertToSet filters out value-less tag entries.
+     * convertSdkTagsToMap
      *
-     * @param tagMap Map of tags to convert
-     * @return Set of Tag objects
+     * Converts the tags returned by ListTagsForResource to a tag-name -> tag-value map.
      */
-    public static Set<Tag> convertToSet(final Map<String, String> tagMap) {
-        if (MapUtils.isEmpty(tagMap)) {
-            return Collections.emptySet();
+    public static Map<String, String> convertSdkTagsToMap(final Collection<software.amazon.awssdk.services.redshiftserverless.model.Tag> tags) {
+        if (CollectionUtils.isEmpty(tags)) {
+            return Collections.emptyMap();
         }
-        return tagMap.entrySet().stream()
-            .filter(tag -> tag.getValue() != null)
-            .map(tag -> Tag.builder()
-                .key(tag.getKey())
-                .value(tag.getValue())
-                .build())
-            .collect(Collectors.toSet());
+        return tags.stream()
+            .filter(tag -> tag.value() != null)
+            .collect(Collectors.toMap(
+                software.amazon.awssdk.services.redshiftserverless.model.Tag::key,
+                software.amazon.awssdk.services.redshiftserverless.model.Tag::value,
+                (oldValue, newValue) -> newValue));
     }
 
     /**
@@ -76,18 +66,18 @@ public class TagHelper {
      * Generate tags to put into resource creation request.
      * This includes user defined tags and system tags as well.
      */
-    public final Map<String, String> generateTagsForCreate(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
+    public static Map<String, String> generateTagsForCreate(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
         final Map<String, String> tagMap = new HashMap<>();
 
-        // merge system tags with desired resource tags if your service supports CloudFormation system tags
-        tagMap.putAll(handlerRequest.getSystemTags());
+        if (handlerRequest.getSystemTags() != null) {
+            tagMap.putAll(handlerRequest.getSystemTags());
+        }
 
         if (handlerRequest.getDesiredResourceTags() != null) {
             tagMap.putAll(handlerRequest.getDesiredResourceTags());
         }
 
-        // TODO: get tags from resource model based on your tag property name
-        // TODO: tagMap.putAll(convertToMap(resourceModel.getTags()));
+        tagMap.putAll(convertToMap(resourceModel.getTags()));
         return Collections.unmodifiableMap(tagMap);
     }
 
@@ -96,7 +86,7 @@ public class TagHelper {
      *
      * Determines whether user defined tags have been changed during update.
      */
-    public final boolean shouldUpdateTags(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
+    public static boolean shouldUpdateTags(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
         final Map<String, String> previousTags = getPreviouslyAttachedTags(handlerRequest);
         final Map<String, String> desiredTags = getNewDesiredTags(resourceModel, handlerRequest);
         return ObjectUtils.notEqual(previousTags, desiredTags);
@@ -105,127 +95,81 @@ public class TagHelper {
     /**
      * getPreviouslyAttachedTags
      *
-     * If stack tags and resource tags are not merged together in Configuration class,
-     * we will get previous attached user defined tags from both handlerRequest.getPreviousResourceTags (stack tags)
-     * and handlerRequest.getPreviousResourceState (resource tags).
+     * Stack level tags and resource level tags are not merged in Configuration, so the previously attached user
+     * defined tags come from both handlerRequest.getPreviousResourceTags (stack tags) and
+     * handlerRequest.getPreviousResourceState (resource tags).
      */
-    public Map<String, String> getPreviouslyAttachedTags(final ResourceHandlerRequest<ResourceModel> handlerRequest) {
-        // get previous stack level tags from handlerRequest
-        final Map<String, String> previousTags = handlerRequest.getPreviousResourceTags() != null ?
-            handlerRequest.getPreviousResourceTags() : Collections.emptyMap();
+    public static Map<String, String> getPreviouslyAttachedTags(final ResourceHandlerRequest<ResourceModel> handlerRequest) {
+        final Map<String, String> previousTags = new HashMap<>();
 
-        // TODO: get resource level tags from previous resource state based on your tag property name
-        // TODO: previousTags.putAll(handlerRequest.getPreviousResourceState().getTags());
+        if (handlerRequest.getPreviousResourceTags() != null) {
+            previousTags.putAll(handlerRequest.getPreviousResourceTags());
+        }
+
+        if (handlerRequest.getPreviousResourceState() != null) {
+            previousTags.putAll(convertToMap(handlerRequest.getPreviousResourceState().getTags()));
+        }
         return previousTags;
     }
 
     /**
      * getNewDesiredTags
      *
-     * If stack tags and resource tags are not merged together in Configuration class,
-     * we will get new user defined tags from both resource model and previous stack tags.
+     * Stack level tags and resource level tags are not merged in Configuration, so the new user defined tags come
+     * from both the resource model and handlerRequest.getDesiredResourceTags (stack tags). Resource tags win on a
+     * key present in both, as they do on create.
      */
-    public Map<String, String> getNewDesiredTags(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
-        // get new stack level tags from handlerRequest
-        final Map<String, String> desiredTags = handlerRequest.getDesiredResourceTags() != null ?
-            handlerRequest.getDesiredResourceTags() : Collections.emptyMap();
+    public static Map<String, String> getNewDesiredTags(final ResourceModel resourceModel, final ResourceHandlerRequest<ResourceModel> handlerRequest) {
+        final Map<String, String> desiredTags = new HashMap<>();
 
-        // TODO: get resource level tags from resource model based on your tag property name
-        // TODO: desiredTags.putAll(convertToMap(resourceModel.getTags()));
+        if (handlerRequest.getDesiredResourceTags() != null) {
+            desiredTags.putAll(handlerRequest.getDesiredResourceTags());
+        }
+
+        desiredTags.putAll(convertToMap(resourceModel.getTags()));
         return desiredTags;
     }
 
     /**
      * generateTagsToAdd
      *
-     * Determines the tags the customer desired to define or redefine.
+     * Determines the tags the customer desired to define or redefine, compared with the tags on the resource.
      */
-    public Map<String, String> generateTagsToAdd(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
+    public static Map<String, String> generateTagsToAdd(final Map<String, String> currentTags, final Map<String, String> desiredTags) {
         return desiredTags.entrySet().stream()
-            .filter(e -> !previousTags.containsKey(e.getKey()) || !Objects.equals(previousTags.get(e.getKey()), e.getValue()))
+            .filter(e -> !isSystemTag(e.getKey()))
+            .filter(e -> !currentTags.containsKey(e.getKey()) || !Objects.equals(currentTags.get(e.getKey()), e.getValue()))
             .collect(Collectors.toMap(
                 Map.Entry::getKey,
                 Map.Entry::getValue));
     }
 
     /**
-     * getTagsToRemove
+     * generateTagsToRemove
      *
-     * Determines the tags the customer desired to remove from the function.
+     * Determines the tags the customer desired to remove from the resource. Only tags the stack attached before and
+     * that are still on the resource are removed, so tags added outside of CloudFormation are left alone.
      */
-    public Set<String> generateTagsToRemove(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
-        final Set<String> desiredTagNames = desiredTags.keySet();
-
+    public static Set<String> generateTagsToRemove(final Map<String, String> previousTags,
+                                                   final Map<String, String> currentTags,
+                                                   final Map<String, String> desiredTags) {
         return previousTags.keySet().stream()
-            .filter(tagName -> !desiredTagNames.contains(tagName))
+            .filter(tagName -> !isSystemTag(tagName))
+            .filter(tagName -> !desiredTags.containsKey(tagName))
+            .filter(currentTags::containsKey)
             .collect(Collectors.toSet());
     }
 
     /**
-     * generateTagsToAdd
-     *
-     * Determines the tags the customer desired to define or redefine.
-     */
-    public Set<Tag> generateTagsToAdd(final Set<Tag> previousTags, final Set<Tag> desiredTags) {
-        return Sets.difference(new HashSet<>(desiredTags), new HashSet<>(previousTags));
-    }
-
-    /**
-     * getTagsToRemove
-     *
-     * Determines the tags the customer desired to remove from the function.
-     */
-    public Set<Tag> generateTagsToRemove(final Set<Tag> previousTags, final Set<Tag> desiredTags) {
-        return Sets.difference(new HashSet<>(previousTags), new HashSet<>(desiredTags));
-    }
-
-
-    /**
-     * tagResource during update
+     * batches
      *
-     * Calls the service:TagResource API.
+     * Splits tags or tag keys into the fewest TagResource or UntagResource calls the service accepts.
      */
-    private ProgressEvent<ResourceModel, CallbackContext>
-    tagResource(final AmazonWebServicesClientProxy proxy, final ProxyClient<SdkClient> serviceClient, final ResourceModel resourceModel,
-                final ResourceHandlerRequest<ResourceModel> handlerRequest, final CallbackContext callbackContext, final Map<String, String> addedTags, final Logger logger) {
-        // TODO: add log for adding tags to resources during update
-        // e.g. logger.log(String.format("[UPDATE][IN PROGRESS] Going to add tags for ... resource: %s with AccountId: %s",
-        // resourceModel.getResourceName(), handlerRequest.getAwsAccountId()));
-
-        // TODO: change untagResource in the method to your service API according to your SDK
-        return proxy.initiate("AWS-RedshiftServerless-Namespace::TagOps", serviceClient, resourceModel, callbackContext)
-            .translateToServiceRequest(model ->
-                Translator.tagResourceRequest(model, addedTags))
-            .makeServiceCall((request, client) -> {
-                return (AwsResponse) null;
-                // TODO: replace the return null with your invoke log to call tagResource API to add tags
-                // e.g. proxy.injectCredentialsAndInvokeV2(request, client.client()::tagResource))
-            })
-            .progress();
+    public static <T> List<List<T>> batches(final Collection<T> items) {
+        return Lists.partition(Lists.newArrayList(items), MAX_TAGS_PER_CALL);
     }
 
-    /**
-     * untagResource during update
-     *
-     * Calls the service:UntagResource API.
-     */
-    private ProgressEvent<ResourceModel, CallbackContext>
-    untagResource(final AmazonWebServicesClientProxy proxy, final ProxyClient<SdkClient> serviceClient, final ResourceModel resourceModel,
-                  final ResourceHandlerRequest<ResourceModel> handlerRequest, final CallbackContext callbackContext, final Set<String> removedTags, final Logger logger) {
-        // TODO: add log for removing tags from resources during update
-        // e.g. logger.log(String.format("[UPDATE][IN PROGRESS] Going to remove tags for ... resource: %s with AccountId: %s",
-        // resourceModel.getResourceName(), handlerRequest.getAwsAccountId()));
-
-        // TODO: change untagResource in the method to your service API according to your SDK
-        return proxy.initiate("AWS-RedshiftServerless-Namespace::TagOps", serviceClient, resourceModel, callbackContext)
-            .translateToServiceRequest(model ->
-                Translator.untagResourceRequest(model, removedTags))
-            .makeServiceCall((request, client) -> {
-                return (AwsResponse) null;
-                // TODO: replace the return null with your invoke log to call untag API to remove tags
-                // e.g. proxy.injectCredentialsAndInvokeV2(request, client.client()::untagResource)
-            })
-            .progress();
+    private static boolean isSystemTag(final String tagName) {
+        return tagName.startsWith(SYSTEM_TAG_PREFIX);
     }
-
 }
@@ -4,7 +4,8 @@ import com.amazonaws.util.StringUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import software.amazon.awssdk.awscore.AwsRequest;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import software.amazon.awssdk.services.redshift.model.DeleteResourcePolicyRequest;
 import software.amazon.awssdk.services.redshift.model.GetResourcePolicyRequest;
 import software.amazon.awssdk.services.redshift.model.PutResourcePolicyRequest;
@@ -15,6 +16,9 @@ import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResp
 import software.amazon.awssdk.services.redshiftserverless.model.ListNamespacesRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListNamespacesResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.CreateSnapshotCopyConfigurationRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateSnapshotCopyConfigurationRequest;
@@ -38,6 +42,13 @@ import java.util.stream.Stream;
  */
 
 public class Translator {
+  // ObjectMapper is expensive to build; readers and writers derived from it are immutable and thread-safe
+  private static final ObjectMapper POLICY_MAPPER = new ObjectMapper();
+  private static final ObjectReader POLICY_READER = POLICY_MAPPER.readerFor(new TypeReference<HashMap<String, Object>>() {
+  });
+  private static final ObjectWriter POLICY_WRITER = POLICY_MAPPER.writer();
+  private static final String ARN_PREFIX = "arn:aws";
+  private static final Pattern IAM_ROLE_ARN_PATTERN = Pattern.compile("(arn:aws.*?:iam::[0-9]{12}?:role/[a-zA-Z0-9_+=,.@-]{1,64})");
 
   /**
    * Request to create a resource
@@ -45,6 +56,21 @@ public class Translator {
    * @return awsRequest the aws service request to create a resource
    */
   static CreateNamespaceRequest translateToCreateRequest(final ResourceModel model) {
+    return translateToCreateRequest(model, translateTagsToSdk(model.getTags()));
+  }
+
+  /**
+   * Request to create a resource with the tags merged from the stack, the system and the resource model
+   * @param model resource model
+   * @param tags tags to create the resource with
+   * @return awsRequest the aws service request to create a resource
+   */
+  static CreateNamespaceRequest translateToCreateRequest(final ResourceModel model, final Map<String, String> tags) {
+    return translateToCreateRequest(model, translateTagsToSdk(tags));
+  }
+
+  private static CreateNamespaceRequest translateToCreateRequest(final ResourceModel model,
+                                                                 final List<software.amazon.awssdk.services.redshiftserverless.model.Tag> tags) {
     return CreateNamespaceRequest.builder()
             .namespaceName(model.getNamespaceName())
             .adminUsername(model.getAdminUsername())
@@ -54,7 +80,7 @@ public class Translator {
             .defaultIamRoleArn(model.getDefaultIamRoleArn())
             .iamRoles(model.getIamRoles())
             .logExportsWithStrings(model.getLogExports())
-            .tags(translateTagsToSdk(model.getTags()))
+            .tags(tags)
             .manageAdminPassword(model.getManageAdminPassword())
             .adminPasswordSecretKmsKeyId(model.getAdminPasswordSecretKmsKeyId())
             .redshiftIdcApplicationArn(model.getRedshiftIdcApplicationArn())
@@ -78,19 +104,32 @@ public class Translator {
   static List<String> translateIamRoles(final List<String> iamRoles) {
     return Optional.ofNullable(iamRoles).orElse(Collections.emptyList())
             .stream()
-            .map(iamRole -> {
-              Pattern iamPattern = Pattern.compile("(arn:aws.*?:iam::[0-9]{12}?:role/[a-zA-Z0-9_+=,.@-]{1,64})");
-              Matcher matcher = iamPattern.matcher(iamRole);
-              if (matcher.find()){
-                return matcher.group(0);
-              }
-              // Case for invalid arn format provided. This is added as a precaution
-              // Service API call to RACS will throw error in case user provides invalid ARN and this wouldnt be reachable.
-              return null;
-            }).filter (iamRole->iamRole!=null)
+            .map(Translator::extractIamRoleArn)
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
   }
 
+  /**
+   * Extracts the first IAM role ARN from either a plain ARN or the SDK IamRole(...) string form.
+   * @param iamRole iam role string as returned by the service
+   * @return the role ARN, or null if the input does not contain one
+   */
+  static String extractIamRoleArn(final String iamRole) {
+    if (iamRole == null) {
+      return null;
+    }
+    // Only try the pattern where an ARN can start instead of at every offset as find() would.
+    Matcher matcher = IAM_ROLE_ARN_PATTERN.matcher(iamRole);
+    for (int start = iamRole.indexOf(ARN_PREFIX); start >= 0; start = iamRole.indexOf(ARN_PREFIX, start + 1)) {
+      if (matcher.region(start, iamRole.length()).lookingAt()) {
+        return matcher.group(0);
+      }
+    }
+    // Case for invalid arn format provided. This is added as a precaution
+    // Service API call to RACS will throw error in case user provides invalid ARN and this wouldnt be reachable.
+    return null;
+  }
+
   /**
    * Request to list snapshot copy configurations for a namespace
    * @param model resource model
@@ -212,11 +251,13 @@ public class Translator {
   /**
    * Request to list resources
    * @param nextToken token passed to the aws service list resources request
+   * @param maxResults maximum number of resources the service returns per page
    * @return awsRequest the aws service request to list resources within aws account
    */
-  static ListNamespacesRequest translateToListRequest(final String nextToken) {
+  static ListNamespacesRequest translateToListRequest(final String nextToken, final Integer maxResults) {
     return ListNamespacesRequest.builder()
             .nextToken(nextToken)
+            .maxResults(maxResults)
             .build();
   }
 
@@ -234,6 +275,15 @@ public class Translator {
             .collect(Collectors.toList());
   }
 
+  static List<software.amazon.awssdk.services.redshiftserverless.model.Tag> translateTagsToSdk(final Map<String, String> tags) {
+    return tags.entrySet()
+            .stream()
+            .map(tag -> software.amazon.awssdk.services.redshiftserverless.model.Tag.builder()
+            .key(tag.getKey())
+            .value(tag.getValue()).build())
+            .collect(Collectors.toList());
+  }
+
   private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
     return Optional.ofNullable(collection)
         .map(Collection::stream)
@@ -241,27 +291,40 @@ public class Translator {
   }
 
   /**
-   * Request to add tags to a resource
-   * @param model resource model
-   * @return awsRequest the aws service request to create a resource
+   * Request to list the tags on a resource
+   * @param resourceArn namespace arn
+   * @return awsRequest the aws service request to list the tags of a resource
    */
-  static AwsRequest tagResourceRequest(final ResourceModel model, final Map<String, String> addedTags) {
-    final AwsRequest awsRequest = null;
-    // TODO: construct a request
-    // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L39-L43
-    return awsRequest;
+  static ListTagsForResourceRequest translateToListTagsRequest(final String resourceArn) {
+    return ListTagsForResourceRequest.builder()
+            .resourceArn(resourceArn)
+            .build();
   }
 
   /**
    * Request to add tags to a resource
-   * @param model resource model
-   * @return awsRequest the aws service request to create a resource
+   * @param resourceArn namespace arn
+   * @param addedTags tags to add or re-value, at most {@link TagHelper#MAX_TAGS_PER_CALL}
+   * @return awsRequest the aws service request to add tags to a resource
    */
-  static AwsRequest untagResourceRequest(final ResourceModel model, final Set<String> removedTags) {
-    final AwsRequest awsRequest = null;
-    // TODO: construct a request
-    // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L39-L43
-    return awsRequest;
+  static TagResourceRequest tagResourceRequest(final String resourceArn, final Map<String, String> addedTags) {
+    return TagResourceRequest.builder()
+            .resourceArn(resourceArn)
+            .tags(translateTagsToSdk(addedTags))
+            .build();
+  }
+
+  /**
+   * Request to remove tags from a resource
+   * @param resourceArn namespace arn
+   * @param removedTags tag keys to remove, at most {@link TagHelper#MAX_TAGS_PER_CALL}
+   * @return awsRequest the aws service request to remove tags from a resource
+   */
+  static UntagResourceRequest untagResourceRequest(final String resourceArn, final Collection<String> removedTags) {
+    return UntagResourceRequest.builder()
+            .resourceArn(resourceArn)
+            .tagKeys(removedTags)
+            .build();
   }
 
   private static Namespace translateToModelNamespace(
@@ -315,10 +378,9 @@ public class Translator {
    * @return Json converted String
    */
   static String convertJsonToString(Map<String, Object> policy, Logger logger) {
-    ObjectMapper mapper = new ObjectMapper();
     String json = "";
     try {
-      json = mapper.writeValueAsString(policy);
+      json = POLICY_WRITER.writeValueAsString(policy);
     } catch (JsonProcessingException e) {
       logger.log("Error parsing Policy Json to String");
     }
@@ -332,16 +394,16 @@ public class Translator {
    * @return Json object Map
    */
   static Map<String, Object> convertStringToJson(String policy, Logger logger) {
-    ObjectMapper mapper = new ObjectMapper();
     Map<String, Object> json = null;
-    TypeReference<HashMap<String, Object>> typeRef = new TypeReference<HashMap<String, Object>>() {
-    };
     try {
       if (policy != null) {
         if (policy.isEmpty()) {
           logger.log("Empty NamespaceResourcePolicy");
+        } else if (isUrlEncoded(policy)) {
+          json = POLICY_READER.readValue(URLDecoder.decode(policy, StandardCharsets.UTF_8.toString()));
         } else {
-          json = mapper.readValue(URLDecoder.decode(policy, StandardCharsets.UTF_8.toString()), typeRef);
+          // URL decoding would be a no-op, so parse the policy as-is without copying it
+          json = POLICY_READER.readValue(policy);
         }
       }
     } catch (IOException e) {
@@ -350,6 +412,10 @@ public class Translator {
     return json;
   }
 
+  private static boolean isUrlEncoded(String policy) {
+    return policy.indexOf('%') >= 0 || policy.indexOf('+') >= 0;
+  }
+
   static SnapshotCopyConfiguration translateToSnapshotCopyConfiguration(software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration config) {
     return SnapshotCopyConfiguration.builder()
             .destinationRegion(config.destinationRegion())
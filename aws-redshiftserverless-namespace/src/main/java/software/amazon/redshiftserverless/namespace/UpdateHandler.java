@@ -15,7 +15,10 @@ import software.amazon.awssdk.services.redshiftserverless.model.DeleteSnapshotCo
 import software.amazon.awssdk.services.redshiftserverless.model.DeleteSnapshotCopyConfigurationResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceResponse;
@@ -37,8 +40,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class UpdateHandler extends BaseHandlerStd {
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -93,19 +100,61 @@ public class UpdateHandler extends BaseHandlerStd {
         }
 
         final ResourceModel updateRequestModel = tempUpdateRequestModel;
+        return applyUpdate(proxy, request, callbackContext, proxyClient, redshiftProxyClient, updateRequestModel);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> applyUpdate(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<RedshiftServerlessClient> proxyClient,
+        final ProxyClient<RedshiftClient> redshiftProxyClient,
+        final ResourceModel updateRequestModel) {
+
+        // Started once the namespace is stable, picked up by the snapshot copy configuration step
+        final AtomicReference<CompletableFuture<ListSnapshotCopyConfigurationsResponse>> listSnapshotCopyConfigurationsFuture = new AtomicReference<>();
+        try {
+            return applyUpdateSteps(proxy, request, callbackContext, proxyClient, redshiftProxyClient, updateRequestModel, listSnapshotCopyConfigurationsFuture);
+        } finally {
+            settle(listSnapshotCopyConfigurationsFuture.get());
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> applyUpdateSteps(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<RedshiftServerlessClient> proxyClient,
+        final ProxyClient<RedshiftClient> redshiftProxyClient,
+        final ResourceModel updateRequestModel,
+        final AtomicReference<CompletableFuture<ListSnapshotCopyConfigurationsResponse>> listSnapshotCopyConfigurationsFuture) {
+
+        final ResourceModel currentModel = request.getDesiredResourceState();
         return ProgressEvent.progress(currentModel, callbackContext)
-                .then(progress ->
-                        proxy.initiate("AWS-RedshiftServerless-Namespace::Update::first", proxyClient, updateRequestModel, progress.getCallbackContext())
-                                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                                .backoffDelay(BACKOFF_STRATEGY)
-                                .makeServiceCall(this::updateNamespace)
-                                .stabilize((_awsRequest, _awsResponse, _client, _model, _context) -> isNamespaceActive(_client, _model, _context))
-                                .handleError(this::defaultErrorHandler)
-                                .progress())
                 .then(progress -> {
+                    // Only the policy, snapshot copy configurations or tags changed, there is nothing to send or wait for
+                    if (isEmptyUpdate(updateRequestModel)) {
+                        logger.log(String.format("%s %s has no namespace properties to update.", ResourceModel.TYPE_NAME, currentModel.getNamespaceName()));
+                        return progress;
+                    }
+                    return proxy.initiate("AWS-RedshiftServerless-Namespace::Update::first", proxyClient, updateRequestModel, progress.getCallbackContext())
+                            .translateToServiceRequest(Translator::translateToUpdateRequest)
+                            .backoffDelay(backoffStrategy(StabilizeOperation.UPDATE))
+                            .makeServiceCall(this::updateNamespace)
+                            .stabilize((_awsRequest, _awsResponse, _client, _model, _context) -> isNamespaceActive(_client, _model, _context))
+                            .handleError(this::defaultErrorHandler)
+                            .progress();
+                })
+                .then(progress -> {
+                    /*
+                    The snapshot copy configuration diff only needs the namespace name, so the list runs while the
+                    namespace is read and its resource policy is put.
+                     */
+                    final ListSnapshotCopyConfigurationsRequest listRequest = Translator.translateToListSnapshotCopyConfigurationsRequest(currentModel);
+                    listSnapshotCopyConfigurationsFuture.set(startCall(() -> listSnapshotCopyConfigurations(listRequest, proxyClient)));
                     progress = proxy.initiate("AWS-RedshiftServerless-Namespace::ReadOnly", proxyClient, updateRequestModel, callbackContext)
                             .translateToServiceRequest(Translator::translateToReadRequest)
-                            .makeServiceCall(this::getNamespace)
+                            .makeServiceCall((getNamespaceRequest, client) -> getNamespace(getNamespaceRequest, client, callbackContext))
                             .handleError(this::defaultErrorHandler)
                             .done(awsResponse -> {
                                 callbackContext.setNamespaceArn(awsResponse.namespace().namespaceArn());
@@ -132,11 +181,23 @@ public class UpdateHandler extends BaseHandlerStd {
                     }
                     return progress;
                 })
+                .then(progress -> {
+                    // Stack, resource and system tags are the same as before, nothing to list or send
+                    if (callbackContext.getNamespaceArn() == null || !TagHelper.shouldUpdateTags(currentModel, request)) {
+                        return progress;
+                    }
+                    return proxy.initiate("AWS-RedshiftServerless-Namespace::ListTags", proxyClient, currentModel, callbackContext)
+                            .translateToServiceRequest(model -> Translator.translateToListTagsRequest(callbackContext.getNamespaceArn()))
+                            .makeServiceCall(this::listTags)
+                            .handleError(this::defaultErrorHandler)
+                            .done(listTagsResponse -> updateTags(proxy, proxyClient, request, callbackContext,
+                                    TagHelper.convertSdkTagsToMap(listTagsResponse.tags())));
+                })
                 .then(progress -> {
                     // We currently only support CRC for 1 destination region per namespace
                     if (currentModel.getSnapshotCopyConfigurations() != null && currentModel.getSnapshotCopyConfigurations().size() > 1) {
                         return ProgressEvent.failed(currentModel, callbackContext, HandlerErrorCode.InvalidRequest,
-                                String.format("You can only have one snapshot copy configuration per namespace %s", currentModel.getNamespace().getNamespaceName()));
+                                String.format("You can only have one snapshot copy configuration per namespace %s", currentModel.getNamespaceName()));
                     }
 
                     SnapshotCopyConfigurationDiff diff = getSnapshotCopyConfigurationDiff(
@@ -148,7 +209,7 @@ public class UpdateHandler extends BaseHandlerStd {
                                     .orElse(Collections.emptyList())
                                     .stream()
                                     .collect(Collectors.toMap(SnapshotCopyConfiguration::getDestinationRegion, Function.identity())),
-                            getSnapshotCopyConfigurations(proxyClient, currentModel));
+                            getSnapshotCopyConfigurations(await(listSnapshotCopyConfigurationsFuture.get())));
 
                     // 1. Delete snapshot copy configurations
                     for (software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration snapshotCopyConfiguration : diff.getToDelete()) {
@@ -182,6 +243,72 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, redshiftProxyClient, logger));
     }
 
+    /**
+     * True when every property UpdateNamespace would send is unchanged, i.e. was nulled out of the update request model.
+     */
+    static boolean isEmptyUpdate(final ResourceModel updateRequestModel) {
+        return Stream.of(
+                updateRequestModel.getAdminUserPassword(),
+                updateRequestModel.getAdminUsername(),
+                updateRequestModel.getKmsKeyId(),
+                updateRequestModel.getDefaultIamRoleArn(),
+                updateRequestModel.getIamRoles(),
+                updateRequestModel.getLogExports(),
+                updateRequestModel.getManageAdminPassword(),
+                updateRequestModel.getAdminPasswordSecretKmsKeyId())
+                .allMatch(Objects::isNull);
+    }
+
+    /**
+     * Untags then tags the namespace in batches of at most {@link TagHelper#MAX_TAGS_PER_CALL}, sending only the
+     * difference between the tags on the namespace and the desired ones.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(final AmazonWebServicesClientProxy proxy,
+                                                                     final ProxyClient<RedshiftServerlessClient> proxyClient,
+                                                                     final ResourceHandlerRequest<ResourceModel> request,
+                                                                     final CallbackContext callbackContext,
+                                                                     final Map<String, String> currentTags) {
+        final ResourceModel currentModel = request.getDesiredResourceState();
+        final String namespaceArn = callbackContext.getNamespaceArn();
+        final Map<String, String> desiredTags = TagHelper.getNewDesiredTags(currentModel, request);
+        final Map<String, String> tagsToAdd = TagHelper.generateTagsToAdd(currentTags, desiredTags);
+        final Set<String> tagsToRemove = TagHelper.generateTagsToRemove(TagHelper.getPreviouslyAttachedTags(request), currentTags, desiredTags);
+        logger.log(String.format("%s %s adds %d and removes %d tags.", ResourceModel.TYPE_NAME, currentModel.getNamespaceName(),
+                tagsToAdd.size(), tagsToRemove.size()));
+
+        ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.progress(currentModel, callbackContext);
+        // Call graph names are unique per batch, the callback context remembers responses by name
+        final List<List<String>> untagBatches = TagHelper.batches(tagsToRemove);
+        for (int batch = 0; batch < untagBatches.size(); batch++) {
+            final String callGraph = String.format("AWS-RedshiftServerless-Namespace::UntagResource::%d", batch);
+            final List<String> removedTags = untagBatches.get(batch);
+            progress = progress.then(__ -> proxy.initiate(callGraph, proxyClient, currentModel, callbackContext)
+                    .translateToServiceRequest(model -> Translator.untagResourceRequest(namespaceArn, removedTags))
+                    .makeServiceCall((untagRequest, client) -> client.injectCredentialsAndInvokeV2(untagRequest, client.client()::untagResource))
+                    .handleError(this::defaultErrorHandler)
+                    .progress());
+        }
+        final List<List<Map.Entry<String, String>>> tagBatches = TagHelper.batches(tagsToAdd.entrySet());
+        for (int batch = 0; batch < tagBatches.size(); batch++) {
+            final String callGraph = String.format("AWS-RedshiftServerless-Namespace::TagResource::%d", batch);
+            final List<Map.Entry<String, String>> addedTags = tagBatches.get(batch);
+            progress = progress.then(__ -> proxy.initiate(callGraph, proxyClient, currentModel, callbackContext)
+                    .translateToServiceRequest(model -> Translator.tagResourceRequest(namespaceArn,
+                            addedTags.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))))
+                    .makeServiceCall((tagRequest, client) -> client.injectCredentialsAndInvokeV2(tagRequest, client.client()::tagResource))
+                    .handleError(this::defaultErrorHandler)
+                    .progress());
+        }
+        return progress;
+    }
+
+    private ListTagsForResourceResponse listTags(final ListTagsForResourceRequest listTagsRequest,
+                                                 final ProxyClient<RedshiftServerlessClient> proxyClient) {
+        ListTagsForResourceResponse listTagsResponse = proxyClient.injectCredentialsAndInvokeV2(listTagsRequest, proxyClient.client()::listTagsForResource);
+        logger.log(String.format("%s %s's tags have successfully been read.", ResourceModel.TYPE_NAME, listTagsRequest.resourceArn()));
+        return listTagsResponse;
+    }
+
     private UpdateNamespaceResponse updateNamespace(final UpdateNamespaceRequest updateNamespaceRequest,
                                                     final ProxyClient<RedshiftServerlessClient> proxyClient) {
         UpdateNamespaceResponse updateNamespaceResponse = null;
@@ -194,12 +321,22 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private GetNamespaceResponse getNamespace(final GetNamespaceRequest getNamespaceRequest,
-                                              final ProxyClient<RedshiftServerlessClient> proxyClient) {
-        GetNamespaceResponse getNamespaceResponse = null;
+                                              final ProxyClient<RedshiftServerlessClient> proxyClient,
+                                              final CallbackContext callbackContext) {
+        // Only needs the ARN, the response stays available for the final read
+        GetNamespaceResponse getNamespaceResponse = stabilizedNamespaceResponse(getNamespaceRequest, callbackContext);
+        if (getNamespaceResponse != null) {
+            return getNamespaceResponse;
+        }
 
         logger.log(String.format("%s %s getNamespaces.", ResourceModel.TYPE_NAME, getNamespaceRequest.namespaceName()));
         getNamespaceResponse = proxyClient.injectCredentialsAndInvokeV2(getNamespaceRequest, proxyClient.client()::getNamespace);
         logger.log(String.format("%s %s has successfully been read.", ResourceModel.TYPE_NAME, getNamespaceRequest.namespaceName()));
+        // UpdateNamespace was skipped, nothing later in the update changes what GetNamespace returns
+        if (getNamespaceResponse.namespace() != null
+                && NAMESPACE_STATUS_AVAILABLE.equalsIgnoreCase(getNamespaceResponse.namespace().statusAsString())) {
+            callbackContext.setStabilizedNamespaceResponse(getNamespaceResponse);
+        }
         return getNamespaceResponse;
     }
 
@@ -242,10 +379,7 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
 
-    private Map<String, software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration> getSnapshotCopyConfigurations(final ProxyClient<RedshiftServerlessClient> proxyClient, ResourceModel model) {
-        ListSnapshotCopyConfigurationsResponse listResponse = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToListSnapshotCopyConfigurationsRequest(model),
-                proxyClient.client()::listSnapshotCopyConfigurations);
-
+    private Map<String, software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration> getSnapshotCopyConfigurations(final ListSnapshotCopyConfigurationsResponse listResponse) {
         return listResponse.snapshotCopyConfigurations().stream()
                 .collect(Collectors.toMap(software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration::destinationRegion, Function.identity()));
     }
@@ -283,9 +417,9 @@ public class UpdateHandler extends BaseHandlerStd {
      * We only determine the diffs with the previous model state, this ensures that snapshot copy configurations defined in CFN to only be managed.
      * Therefore, if snapshot copy configurations are created manually but not specified in CFN, these will not be touched by CFN!
      */
-    private SnapshotCopyConfigurationDiff getSnapshotCopyConfigurationDiff(final Map<String, SnapshotCopyConfiguration> desiredSnapshotCopyConfigurations,
-                                                                           final Map<String, SnapshotCopyConfiguration> previousSnapshotCopyConfigurations,
-                                                                           final Map<String, software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration> existingSnapshotCopyConfigurations) {
+    static SnapshotCopyConfigurationDiff getSnapshotCopyConfigurationDiff(final Map<String, SnapshotCopyConfiguration> desiredSnapshotCopyConfigurations,
+                                                                          final Map<String, SnapshotCopyConfiguration> previousSnapshotCopyConfigurations,
+                                                                          final Map<String, software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration> existingSnapshotCopyConfigurations) {
         // Include snapshot copy configurations found through the API which are not in the previous model state
         SetUtils.intersection(desiredSnapshotCopyConfigurations.keySet(), existingSnapshotCopyConfigurations.keySet())
                 .stream()
@@ -329,7 +463,7 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     @Value
-    private static class SnapshotCopyConfigurationDiff {
+    static class SnapshotCopyConfigurationDiff {
         List<SnapshotCopyConfiguration> toCreate;
         List<software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration> toDelete;
         Map<String, SnapshotCopyConfiguration> toUpdate;
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
@@ -27,6 +28,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.redshiftserverless.common.HandlerSimulator;
 
 public class AbstractTestBase {
   protected static final Credentials MOCK_CREDENTIALS;
@@ -123,7 +125,7 @@ public class AbstractTestBase {
       public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
       CompletableFuture<ResponseT>
       injectCredentialsAndInvokeV2Async(RequestT request, Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
-        throw new UnsupportedOperationException();
+        return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
       }
 
       @Override
@@ -152,6 +154,18 @@ public class AbstractTestBase {
     };
   }
 
+  /**
+   * Drives the handlers against the fakes on their simulated clock, see {@link HandlerSimulator}.
+   */
+  static HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulator(
+    final FakeRedshiftServerlessClient sdkClient,
+    final FakeRedshiftClient redshiftClient) {
+    return new HandlerSimulator<>(CallbackContext::new, new TypeReference<CallbackContext>() { },
+      (handler, proxy, request, callbackContext, handlerLogger) -> handler.handleRequest(proxy, request, callbackContext,
+        MOCK_PROXY(proxy, sdkClient), MOCK_PROXY(proxy, redshiftClient), handlerLogger),
+      sdkClient.getBehavior(), redshiftClient.getBehavior());
+  }
+
   public static ResourceModel getCreateRequestResourceModel() {
       return ResourceModel.builder()
               .namespaceName(NAMESPACE_NAME)
@@ -0,0 +1,114 @@
+package software.amazon.redshiftserverless.namespace;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyRequest;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+import software.amazon.redshiftserverless.common.FakeClock;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+public class ApiMetricsTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void wrap_RecordsCallsLatencyErrorsAndThrottlesAcrossClients() {
+        final FakeClock clock = FakeClock.simulated();
+        final ApiMetrics metrics = new ApiMetrics(BaseHandlerStd.RESOURCE_TYPE, "UpdateHandler",
+                () -> TimeUnit.MILLISECONDS.toNanos(clock.millis()));
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final FakeServiceBehavior behavior = FakeServiceBehavior.builder().clock(clock).latency(Duration.ofMillis(120)).build();
+        final ProxyClient<RedshiftServerlessClient> proxyClient =
+                metrics.wrap(MOCK_PROXY(proxy, (RedshiftServerlessClient) FakeRedshiftServerlessClient.builder().behavior(behavior).build()));
+        final ProxyClient<RedshiftServerlessClient> throttledClient = metrics.wrap(MOCK_PROXY(proxy,
+                (RedshiftServerlessClient) FakeRedshiftServerlessClient.builder()
+                        .behavior(FakeServiceBehavior.builder().clock(clock).latency(Duration.ofSeconds(3)).throttleRate(1.0).build())
+                        .build()));
+        final ProxyClient<RedshiftClient> redshiftProxyClient =
+                metrics.wrap(MOCK_PROXY(proxy, (RedshiftClient) FakeRedshiftClient.builder().behavior(behavior).build()));
+
+        assertThrows(ResourceNotFoundException.class, () -> proxyClient.injectCredentialsAndInvokeV2(
+                GetNamespaceRequest.builder().namespaceName("ns").build(), proxyClient.client()::getNamespace));
+        proxyClient.injectCredentialsAndInvokeV2(CreateNamespaceRequest.builder().namespaceName("ns").build(),
+                proxyClient.client()::createNamespace);
+        proxyClient.injectCredentialsAndInvokeV2(GetNamespaceRequest.builder().namespaceName("ns").build(),
+                proxyClient.client()::getNamespace);
+        assertThrows(ThrottlingException.class, () -> throttledClient.injectCredentialsAndInvokeV2(
+                GetNamespaceRequest.builder().namespaceName("ns").build(), throttledClient.client()::getNamespace));
+        assertThrows(software.amazon.awssdk.services.redshift.model.ResourceNotFoundException.class,
+                () -> redshiftProxyClient.injectCredentialsAndInvokeV2(GetResourcePolicyRequest.builder().resourceArn("arn").build(),
+                        redshiftProxyClient.client()::getResourcePolicy));
+
+        final Map<String, Object> emf = metrics.toEmf(0L);
+        assertThat(emf).containsEntry("ResourceType", "AWS::RedshiftServerless::Namespace")
+                .containsEntry("Handler", "UpdateHandler")
+                .containsEntry("GetNamespace.Calls", 3)
+                .containsEntry("GetNamespace.Errors", 2)
+                .containsEntry("GetNamespace.Throttles", 1)
+                .containsEntry("CreateNamespace.Calls", 1)
+                .containsEntry("CreateNamespace.Errors", 0)
+                .containsEntry("GetResourcePolicy.Calls", 1)
+                .containsEntry("GetResourcePolicy.Errors", 1)
+                .containsEntry("GetResourcePolicy.Throttles", 0);
+        assertThat(emf.get("GetNamespace.Latency")).asList().containsExactly(120L, 120L, 3000L);
+        assertThat(emf.get("LatencyHistogram")).asString().contains("GetNamespace={<=250=2, <=5000=1}");
+        assertThat(emf.get("ErrorClasses")).asString()
+                .contains("GetNamespace={ResourceNotFoundException=1, ThrottlingException=1}")
+                .contains("GetResourcePolicy={ResourceNotFoundException=1}")
+                .doesNotContain("CreateNamespace");
+    }
+
+    @Test
+    public void handleRequest_LogsOneSummaryPerInvocation() throws Exception {
+        final List<String> lines = new ArrayList<>();
+        final AmazonWebServicesClientProxy proxy =
+                spy(new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis()));
+        final FakeRedshiftServerlessClient sdkClient = FakeRedshiftServerlessClient.builder().build();
+        final FakeRedshiftClient redshiftClient = FakeRedshiftClient.builder().build();
+        sdkClient.createNamespace(CreateNamespaceRequest.builder().namespaceName(NAMESPACE_NAME).build());
+        // the serverless client is built first, then the resource policy client
+        doReturn(MOCK_PROXY(proxy, sdkClient), MOCK_PROXY(proxy, redshiftClient)).when(proxy).newProxy(any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getNamespaceRequestResourceModel())
+                .awsAccountId("123456789012")
+                .region(AWS_REGION)
+                .build();
+        assertThat(new ReadHandler().handleRequest(proxy, request, null, lines::add).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final List<String> summaries = lines.stream().filter(line -> line.startsWith("{\"_aws\"")).collect(Collectors.toList());
+        assertThat(summaries).hasSize(1);
+        final JsonNode emf = MAPPER.readTree(summaries.get(0));
+        assertThat(emf.get("Handler").asText()).isEqualTo("ReadHandler");
+        assertThat(emf.get("GetNamespace.Calls").asInt()).isEqualTo(sdkClient.getBehavior().callCount("GetNamespace"));
+        assertThat(emf.get("GetResourcePolicy.Calls").asInt()).isEqualTo(redshiftClient.getBehavior().callCount("GetResourcePolicy"));
+        // started on the pool while the namespace was read, and still counted in the summary
+        assertThat(emf.get("ListSnapshotCopyConfigurations.Calls").asInt())
+                .isEqualTo(sdkClient.getBehavior().callCount("ListSnapshotCopyConfigurations"))
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,69 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BaseHandlerStdTest extends AbstractTestBase {
+
+    @Test
+    public void handleRequest_EachInvocationSignsWithItsOwnCredentials() {
+        final ClientCapturingHandler handler = new ClientCapturingHandler();
+
+        handler.handleRequest(proxy("first"), request(), null, logger);
+        handler.handleRequest(proxy("second"), request(), null, logger);
+
+        assertThat(handler.accessKeyIds).containsExactly("first", "second");
+        assertThat(handler.proxyClients).hasSize(2).doesNotHaveDuplicates();
+    }
+
+    private static AmazonWebServicesClientProxy proxy(final String accessKeyId) {
+        return new AmazonWebServicesClientProxy(logger, new Credentials(accessKeyId, "secretKey", "token"), () -> 600_000L);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getCreateRequestResourceModel())
+                .awsAccountId("123456789012")
+                .region(AWS_REGION)
+                .build();
+    }
+
+    /**
+     * Records the proxy client each invocation gets and the credentials a call started through it is signed with.
+     */
+    private static class ClientCapturingHandler extends BaseHandlerStd {
+        private final List<ProxyClient<RedshiftServerlessClient>> proxyClients = new ArrayList<>();
+        private final List<String> accessKeyIds = new ArrayList<>();
+
+        @Override
+        protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(final AmazonWebServicesClientProxy proxy,
+                                                                              final ResourceHandlerRequest<ResourceModel> request,
+                                                                              final CallbackContext callbackContext,
+                                                                              final ProxyClient<RedshiftServerlessClient> proxyClient,
+                                                                              final ProxyClient<RedshiftClient> redshiftProxyClient,
+                                                                              final Logger logger) {
+            proxyClients.add(proxyClient);
+            settle(startCall(() -> proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToListSnapshotCopyConfigurationsRequest(request.getDesiredResourceState()),
+                    (ListSnapshotCopyConfigurationsRequest signed) -> {
+                        accessKeyIds.add(signed.overrideConfiguration().get().credentialsProvider().get().resolveCredentials().accessKeyId());
+                        return ListSnapshotCopyConfigurationsResponse.builder().build();
+                    })));
+            return ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
+        }
+    }
+}
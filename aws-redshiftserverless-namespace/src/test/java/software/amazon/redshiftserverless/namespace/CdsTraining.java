@@ -0,0 +1,63 @@
+package software.amazon.redshiftserverless.namespace;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.FakeClock;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+import software.amazon.redshiftserverless.common.HandlerSimulator;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Training workload for the AppCDS archive built by the {@code appcds} profile. Drives create, read, update and
+ * delete through the handlers against the in-memory fakes and then runs the SnapStart priming, so the dumped class
+ * list covers what real invocations load. Only classes that resolve from the handler jar end up in the archive, the
+ * fakes and this class are skipped at dump time.
+ */
+public class CdsTraining {
+
+    public static void main(final String[] args) {
+        final FakeServiceBehavior behavior = FakeServiceBehavior.builder().clock(FakeClock.simulated()).build();
+        final HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulator = AbstractTestBase.simulator(
+                FakeRedshiftServerlessClient.builder()
+                        .behavior(behavior)
+                        // long enough that every operation is handed back at least once and stabilization is exercised
+                        .createDuration(Duration.ofSeconds(20))
+                        .updateDuration(Duration.ofSeconds(15))
+                        .deleteDuration(Duration.ofSeconds(45))
+                        .build(),
+                FakeRedshiftClient.builder().behavior(behavior).build());
+
+        final ResourceModel created = AbstractTestBase.getCreateRequestResourceModel();
+        created.setNamespaceResourcePolicy(Translator.convertStringToJson(AbstractTestBase.NAMESPACE_RESOURCE_POLICY_DOCUMENT, message -> { }));
+        created.setSnapshotCopyConfigurations(Collections.singletonList(SnapshotCopyConfiguration.builder()
+                .destinationRegion("us-west-2")
+                .snapshotRetentionPeriod(7)
+                .build()));
+        simulator.run("create", new CreateHandler(), request(created, null));
+        simulator.run("read", new ReadHandler(), request(AbstractTestBase.getNamespaceRequestResourceModel(), null));
+
+        final ResourceModel updated = AbstractTestBase.getCreateRequestResourceModel();
+        updated.setIamRoles(Arrays.asList(
+                "arn:aws:iam::123456789012:role/redshift-serverless-role-1",
+                "arn:aws:iam::123456789012:role/redshift-serverless-role-2"));
+        updated.setNamespaceResourcePolicy(created.getNamespaceResourcePolicy());
+        updated.setSnapshotCopyConfigurations(Collections.singletonList(SnapshotCopyConfiguration.builder()
+                .destinationRegion("us-west-2")
+                .snapshotRetentionPeriod(14)
+                .build()));
+        simulator.run("update", new UpdateHandler(), request(updated, created));
+        simulator.run("delete", new DeleteHandler(), request(AbstractTestBase.getDeleteRequestResourceModel(), null));
+
+        Priming.prime(System.out::println);
+        System.out.print(simulator.report("appcds training"));
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+
+    @Test
+    public void getClient_ReusesClientForSameRegion() {
+        final RedshiftServerlessClient first = ClientBuilder.getClient(Region.US_EAST_1, null);
+        final RedshiftServerlessClient second = ClientBuilder.getClient(Region.US_EAST_1, null);
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void getClient_SeparateClientPerRegionAndEndpoint() {
+        final RedshiftServerlessClient east = ClientBuilder.getClient(Region.US_EAST_1, null);
+        final RedshiftServerlessClient west = ClientBuilder.getClient(Region.US_WEST_2, null);
+        final RedshiftServerlessClient overridden = ClientBuilder.getClient(Region.US_EAST_1, URI.create("https://localhost:8443"));
+
+        assertThat(west).isNotSameAs(east);
+        assertThat(overridden).isNotSameAs(east);
+        assertThat(ClientBuilder.getClient(Region.US_EAST_1, URI.create("https://localhost:8443"))).isSameAs(overridden);
+    }
+
+    @Test
+    public void redshiftClient_ReusesClientForSameRegion() {
+        final RedshiftClient first = ClientBuilder.redshiftClient(Region.US_EAST_1, null);
+        final RedshiftClient second = ClientBuilder.redshiftClient(Region.US_EAST_1, null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(ClientBuilder.redshiftClient(Region.US_WEST_2, null)).isNotSameAs(first);
+    }
+}
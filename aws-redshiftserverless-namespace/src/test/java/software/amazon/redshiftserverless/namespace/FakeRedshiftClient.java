@@ -0,0 +1,119 @@
+package software.amazon.redshiftserverless.namespace;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.DeleteResourcePolicyRequest;
+import software.amazon.awssdk.services.redshift.model.DeleteResourcePolicyResponse;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyRequest;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyResponse;
+import software.amazon.awssdk.services.redshift.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.redshift.model.PutResourcePolicyResponse;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.awssdk.services.redshift.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshift.model.ResourcePolicy;
+import software.amazon.awssdk.services.redshift.model.UnsupportedOperationException;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * In-memory stand-in for the Redshift resource policy APIs used by the namespace handlers. Regions without the
+ * feature and callers without redshift:GetResourcePolicy are modelled with the errors the service returns for them.
+ */
+public class FakeRedshiftClient implements RedshiftClient {
+    static final String UNSUPPORTED_MESSAGE = "The resource policy feature isn't supported in this region";
+    static final String NOT_AUTHORIZED_MESSAGE = "User is not authorized to perform: redshift:GetResourcePolicy";
+
+    @Getter
+    private final FakeServiceBehavior behavior;
+    private final boolean unsupported;
+    @Setter
+    private volatile boolean unauthorized;
+    private final Map<String, String> policies = new HashMap<>();
+
+    /**
+     * @param behavior     latency, throttling and clock, instant when not set
+     * @param unsupported  every call fails as in a region without resource policies
+     * @param unauthorized GetResourcePolicy fails with 403 as for a caller without the permission, until the
+     *                     permission is granted with {@link #setUnauthorized(boolean)}
+     */
+    @Builder
+    FakeRedshiftClient(final FakeServiceBehavior behavior, final boolean unsupported, final boolean unauthorized) {
+        this.behavior = behavior == null ? FakeServiceBehavior.instant() : behavior;
+        this.unsupported = unsupported;
+        this.unauthorized = unauthorized;
+    }
+
+    @Override
+    public GetResourcePolicyResponse getResourcePolicy(final GetResourcePolicyRequest request) {
+        return call("GetResourcePolicy", () -> {
+            if (unauthorized) {
+                throw RedshiftException.builder()
+                        .message(NOT_AUTHORIZED_MESSAGE)
+                        .statusCode(403)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("AccessDenied").errorMessage(NOT_AUTHORIZED_MESSAGE).build())
+                        .build();
+            }
+            final String policy = policies.get(request.resourceArn());
+            if (policy == null) {
+                throw ResourceNotFoundException.builder().message("Resource policy not found for " + request.resourceArn()).build();
+            }
+            return GetResourcePolicyResponse.builder().resourcePolicy(resourcePolicy(request.resourceArn(), policy)).build();
+        });
+    }
+
+    @Override
+    public PutResourcePolicyResponse putResourcePolicy(final PutResourcePolicyRequest request) {
+        return call("PutResourcePolicy", () -> {
+            policies.put(request.resourceArn(), request.policy());
+            return PutResourcePolicyResponse.builder().resourcePolicy(resourcePolicy(request.resourceArn(), request.policy())).build();
+        });
+    }
+
+    @Override
+    public DeleteResourcePolicyResponse deleteResourcePolicy(final DeleteResourcePolicyRequest request) {
+        return call("DeleteResourcePolicy", () -> {
+            if (policies.remove(request.resourceArn()) == null) {
+                throw ResourceNotFoundException.builder().message("Resource policy not found for " + request.resourceArn()).build();
+            }
+            return DeleteResourcePolicyResponse.builder().build();
+        });
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public synchronized String policy(final String resourceArn) {
+        return policies.get(resourceArn);
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        return behavior.call(operation, () -> {
+            if (unsupported) {
+                throw UnsupportedOperationException.builder().message(UNSUPPORTED_MESSAGE).statusCode(400).build();
+            }
+            synchronized (this) {
+                return body.get();
+            }
+        }, () -> RedshiftException.builder()
+                .message("Rate exceeded")
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").errorMessage("Rate exceeded").build())
+                .build());
+    }
+
+    private static ResourcePolicy resourcePolicy(final String resourceArn, final String policy) {
+        return ResourcePolicy.builder().resourceArn(resourceArn).policy(policy).build();
+    }
+}
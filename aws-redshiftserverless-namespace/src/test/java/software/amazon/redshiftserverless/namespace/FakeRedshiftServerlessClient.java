@@ -0,0 +1,380 @@
+package software.amazon.redshiftserverless.namespace;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateSnapshotCopyConfigurationRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateSnapshotCopyConfigurationResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteSnapshotCopyConfigurationRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteSnapshotCopyConfigurationResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListNamespacesRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListNamespacesResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.Namespace;
+import software.amazon.awssdk.services.redshiftserverless.model.NamespaceStatus;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration;
+import software.amazon.awssdk.services.redshiftserverless.model.Tag;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateSnapshotCopyConfigurationRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateSnapshotCopyConfigurationResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory stand-in for the Redshift Serverless namespace, tag and snapshot copy configuration APIs. Namespaces
+ * move through MODIFYING and DELETING on a configurable schedule measured on the behavior's clock, and every call
+ * goes through {@link FakeServiceBehavior} for latency, throttling and call counts. Thread-safe.
+ */
+public class FakeRedshiftServerlessClient implements RedshiftServerlessClient {
+    static final String NAMESPACE_BUSY_MESSAGE = "There is an operation running on the namespace";
+    static final String AWS_OWNED_KMS_KEY = "AWS_OWNED_KMS_KEY";
+
+    @Getter
+    private final FakeServiceBehavior behavior;
+    private final Duration createDuration;
+    private final Duration updateDuration;
+    private final Duration deleteDuration;
+    private final String region;
+    private final String accountId;
+
+    private final Map<String, NamespaceState> namespaces = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new LinkedHashMap<>();
+    private final Map<String, SnapshotCopyConfiguration> snapshotCopyConfigurations = new LinkedHashMap<>();
+
+    /**
+     * @param behavior       latency, throttling and clock, instant when not set
+     * @param createDuration time a new namespace stays MODIFYING before it is AVAILABLE
+     * @param updateDuration time an updated namespace stays MODIFYING
+     * @param deleteDuration time a deleted namespace stays DELETING before it is gone
+     */
+    @Builder
+    FakeRedshiftServerlessClient(final FakeServiceBehavior behavior,
+                                 final Duration createDuration,
+                                 final Duration updateDuration,
+                                 final Duration deleteDuration,
+                                 final String region,
+                                 final String accountId) {
+        this.behavior = behavior == null ? FakeServiceBehavior.instant() : behavior;
+        this.createDuration = createDuration == null ? Duration.ZERO : createDuration;
+        this.updateDuration = updateDuration == null ? Duration.ZERO : updateDuration;
+        this.deleteDuration = deleteDuration == null ? Duration.ZERO : deleteDuration;
+        this.region = region == null ? "us-east-1" : region;
+        this.accountId = accountId == null ? "123456789012" : accountId;
+    }
+
+    @Override
+    public CreateNamespaceResponse createNamespace(final CreateNamespaceRequest request) {
+        return call("CreateNamespace", () -> {
+            if (namespaces.containsKey(request.namespaceName())) {
+                throw ConflictException.builder().message("Namespace " + request.namespaceName() + " already exists").build();
+            }
+            final String namespaceId = UUID.randomUUID().toString();
+            final Namespace namespace = Namespace.builder()
+                    .namespaceName(request.namespaceName())
+                    .namespaceId(namespaceId)
+                    .namespaceArn(String.format("arn:aws:redshift-serverless:%s:%s:namespace/%s", region, accountId, namespaceId))
+                    .adminUsername(request.adminUsername())
+                    .dbName(request.dbName())
+                    .defaultIamRoleArn(request.defaultIamRoleArn())
+                    .iamRoles(toServiceIamRoles(request.iamRoles()))
+                    .kmsKeyId(request.kmsKeyId())
+                    .logExportsWithStrings(request.logExportsAsStrings())
+                    .adminPasswordSecretKmsKeyId(request.adminPasswordSecretKmsKeyId())
+                    .creationDate(Instant.ofEpochMilli(now()))
+                    .build();
+            namespaces.put(request.namespaceName(), new NamespaceState(namespace, NamespaceStatus.MODIFYING, now() + createDuration.toMillis()));
+            tags.put(namespace.namespaceArn(), toTagMap(request.tags()));
+            return CreateNamespaceResponse.builder().namespace(describe(request.namespaceName())).build();
+        });
+    }
+
+    @Override
+    public GetNamespaceResponse getNamespace(final GetNamespaceRequest request) {
+        return call("GetNamespace", () -> GetNamespaceResponse.builder().namespace(describe(request.namespaceName())).build());
+    }
+
+    @Override
+    public UpdateNamespaceResponse updateNamespace(final UpdateNamespaceRequest request) {
+        return call("UpdateNamespace", () -> {
+            final NamespaceState state = availableNamespace(request.namespaceName());
+            final Namespace.Builder namespace = state.namespace.toBuilder();
+            if (request.adminUsername() != null) {
+                namespace.adminUsername(request.adminUsername());
+            }
+            if (request.defaultIamRoleArn() != null) {
+                namespace.defaultIamRoleArn(request.defaultIamRoleArn());
+            }
+            if (request.hasIamRoles()) {
+                namespace.iamRoles(toServiceIamRoles(request.iamRoles()));
+            }
+            if (request.kmsKeyId() != null) {
+                namespace.kmsKeyId(request.kmsKeyId());
+            }
+            if (request.hasLogExports()) {
+                namespace.logExportsWithStrings(request.logExportsAsStrings());
+            }
+            if (request.adminPasswordSecretKmsKeyId() != null) {
+                namespace.adminPasswordSecretKmsKeyId(request.adminPasswordSecretKmsKeyId());
+            }
+            state.namespace = namespace.build();
+            state.transition(NamespaceStatus.MODIFYING, now() + updateDuration.toMillis());
+            return UpdateNamespaceResponse.builder().namespace(describe(request.namespaceName())).build();
+        });
+    }
+
+    @Override
+    public DeleteNamespaceResponse deleteNamespace(final DeleteNamespaceRequest request) {
+        return call("DeleteNamespace", () -> {
+            final NamespaceState state = availableNamespace(request.namespaceName());
+            state.transition(NamespaceStatus.DELETING, now() + deleteDuration.toMillis());
+            return DeleteNamespaceResponse.builder().namespace(state.describe()).build();
+        });
+    }
+
+    @Override
+    public ListNamespacesResponse listNamespaces(final ListNamespacesRequest request) {
+        return call("ListNamespaces", () -> {
+            final List<String> names = new ArrayList<>();
+            for (final String name : new ArrayList<>(namespaces.keySet())) {
+                if (find(name) != null) {
+                    names.add(name);
+                }
+            }
+            final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            final int to = Math.min(names.size(), from + (request.maxResults() == null ? 100 : request.maxResults()));
+            return ListNamespacesResponse.builder()
+                    .namespaces(names.subList(from, to).stream().map(this::describe).collect(Collectors.toList()))
+                    .nextToken(to < names.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return call("TagResource", () -> {
+            resourceTags(request.resourceArn()).putAll(toTagMap(request.tags()));
+            return TagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return call("UntagResource", () -> {
+            resourceTags(request.resourceArn()).keySet().removeAll(request.tagKeys());
+            return UntagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call("ListTagsForResource", () -> ListTagsForResourceResponse.builder()
+                .tags(resourceTags(request.resourceArn()).entrySet().stream()
+                        .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public CreateSnapshotCopyConfigurationResponse createSnapshotCopyConfiguration(final CreateSnapshotCopyConfigurationRequest request) {
+        return call("CreateSnapshotCopyConfiguration", () -> {
+            final NamespaceState state = existingNamespace(request.namespaceName());
+            final boolean duplicate = snapshotCopyConfigurations.values().stream()
+                    .anyMatch(config -> config.namespaceName().equals(request.namespaceName())
+                            && config.destinationRegion().equals(request.destinationRegion()));
+            if (duplicate) {
+                throw ValidationException.builder()
+                        .message("Snapshot copy configuration to " + request.destinationRegion() + " already exists")
+                        .build();
+            }
+            final String id = UUID.randomUUID().toString();
+            final SnapshotCopyConfiguration config = SnapshotCopyConfiguration.builder()
+                    .snapshotCopyConfigurationId(id)
+                    .snapshotCopyConfigurationArn(String.format("arn:aws:redshift-serverless:%s:%s:snapshotcopyconfiguration/%s",
+                            region, accountId, id))
+                    .namespaceName(state.namespace.namespaceName())
+                    .destinationRegion(request.destinationRegion())
+                    .destinationKmsKeyId(request.destinationKmsKeyId() == null ? AWS_OWNED_KMS_KEY : request.destinationKmsKeyId())
+                    .snapshotRetentionPeriod(request.snapshotRetentionPeriod() == null ? -1 : request.snapshotRetentionPeriod())
+                    .build();
+            snapshotCopyConfigurations.put(id, config);
+            return CreateSnapshotCopyConfigurationResponse.builder().snapshotCopyConfiguration(config).build();
+        });
+    }
+
+    @Override
+    public UpdateSnapshotCopyConfigurationResponse updateSnapshotCopyConfiguration(final UpdateSnapshotCopyConfigurationRequest request) {
+        return call("UpdateSnapshotCopyConfiguration", () -> {
+            final SnapshotCopyConfiguration config = snapshotCopyConfiguration(request.snapshotCopyConfigurationId()).toBuilder()
+                    .snapshotRetentionPeriod(request.snapshotRetentionPeriod())
+                    .build();
+            snapshotCopyConfigurations.put(config.snapshotCopyConfigurationId(), config);
+            return UpdateSnapshotCopyConfigurationResponse.builder().snapshotCopyConfiguration(config).build();
+        });
+    }
+
+    @Override
+    public DeleteSnapshotCopyConfigurationResponse deleteSnapshotCopyConfiguration(final DeleteSnapshotCopyConfigurationRequest request) {
+        return call("DeleteSnapshotCopyConfiguration", () -> {
+            final SnapshotCopyConfiguration config = snapshotCopyConfiguration(request.snapshotCopyConfigurationId());
+            snapshotCopyConfigurations.remove(config.snapshotCopyConfigurationId());
+            return DeleteSnapshotCopyConfigurationResponse.builder().snapshotCopyConfiguration(config).build();
+        });
+    }
+
+    @Override
+    public ListSnapshotCopyConfigurationsResponse listSnapshotCopyConfigurations(final ListSnapshotCopyConfigurationsRequest request) {
+        return call("ListSnapshotCopyConfigurations", () -> {
+            existingNamespace(request.namespaceName());
+            return ListSnapshotCopyConfigurationsResponse.builder()
+                    .snapshotCopyConfigurations(snapshotCopyConfigurations.values().stream()
+                            .filter(config -> config.namespaceName().equals(request.namespaceName()))
+                            .collect(Collectors.toList()))
+                    .build();
+        });
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Namespace status as a caller would see it right now, or null when it does not exist.
+     */
+    public synchronized NamespaceStatus status(final String namespaceName) {
+        final NamespaceState state = find(namespaceName);
+        return state == null ? null : state.status;
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        return behavior.call(operation, () -> {
+            synchronized (this) {
+                return body.get();
+            }
+        }, () -> ThrottlingException.builder().message("Rate exceeded").statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build());
+    }
+
+    private long now() {
+        return behavior.getClock().millis();
+    }
+
+    private NamespaceState find(final String namespaceName) {
+        final NamespaceState state = namespaces.get(namespaceName);
+        if (state == null) {
+            return null;
+        }
+        if (state.pendingUntil <= now()) {
+            if (state.status == NamespaceStatus.DELETING) {
+                namespaces.remove(namespaceName);
+                tags.remove(state.namespace.namespaceArn());
+                snapshotCopyConfigurations.values().removeIf(config -> config.namespaceName().equals(namespaceName));
+                return null;
+            }
+            state.status = NamespaceStatus.AVAILABLE;
+        }
+        return state;
+    }
+
+    private NamespaceState existingNamespace(final String namespaceName) {
+        final NamespaceState state = find(namespaceName);
+        if (state == null) {
+            throw ResourceNotFoundException.builder().message("Namespace " + namespaceName + " not found").build();
+        }
+        return state;
+    }
+
+    private NamespaceState availableNamespace(final String namespaceName) {
+        final NamespaceState state = existingNamespace(namespaceName);
+        if (state.status != NamespaceStatus.AVAILABLE) {
+            throw ConflictException.builder().message(NAMESPACE_BUSY_MESSAGE + " " + namespaceName).build();
+        }
+        return state;
+    }
+
+    private Namespace describe(final String namespaceName) {
+        return existingNamespace(namespaceName).describe();
+    }
+
+    private Map<String, String> resourceTags(final String resourceArn) {
+        final Map<String, String> resourceTags = tags.get(resourceArn);
+        if (resourceTags == null) {
+            throw ResourceNotFoundException.builder().message("Resource " + resourceArn + " not found").build();
+        }
+        return resourceTags;
+    }
+
+    private SnapshotCopyConfiguration snapshotCopyConfiguration(final String id) {
+        final SnapshotCopyConfiguration config = snapshotCopyConfigurations.get(id);
+        if (config == null) {
+            throw ResourceNotFoundException.builder().message("Snapshot copy configuration " + id + " not found").build();
+        }
+        return config;
+    }
+
+    // The service reports IAM roles in their toString form, see Translator.translateIamRoles
+    private static List<String> toServiceIamRoles(final List<String> iamRoles) {
+        return iamRoles.stream()
+                .map(arn -> String.format("IamRole(applyStatus=in-sync, iamRoleArn=%s)", arn))
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, String> toTagMap(final List<Tag> tagList) {
+        final Map<String, String> tagMap = new LinkedHashMap<>();
+        tagList.forEach(tag -> tagMap.put(tag.key(), tag.value()));
+        return tagMap;
+    }
+
+    private static final class NamespaceState {
+        private Namespace namespace;
+        private NamespaceStatus status;
+        private long pendingUntil;
+
+        private NamespaceState(final Namespace namespace, final NamespaceStatus status, final long pendingUntil) {
+            this.namespace = namespace;
+            this.status = status;
+            this.pendingUntil = pendingUntil;
+        }
+
+        private void transition(final NamespaceStatus status, final long pendingUntil) {
+            this.status = status;
+            this.pendingUntil = pendingUntil;
+        }
+
+        private Namespace describe() {
+            return namespace.toBuilder().status(status).build();
+        }
+    }
+}
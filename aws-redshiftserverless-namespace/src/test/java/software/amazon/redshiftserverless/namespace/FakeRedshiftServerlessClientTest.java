@@ -0,0 +1,127 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyRequest;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.NamespaceStatus;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.FakeClock;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FakeRedshiftServerlessClientTest extends AbstractTestBase {
+
+    @Test
+    public void namespace_MovesThroughStatesOnTheClock() {
+        final FakeClock clock = FakeClock.simulated();
+        final FakeRedshiftServerlessClient client = FakeRedshiftServerlessClient.builder()
+                .behavior(FakeServiceBehavior.builder().clock(clock).build())
+                .createDuration(Duration.ofSeconds(30))
+                .updateDuration(Duration.ofSeconds(20))
+                .deleteDuration(Duration.ofSeconds(60))
+                .build();
+
+        client.createNamespace(CreateNamespaceRequest.builder().namespaceName("ns").build());
+        assertThat(client.status("ns")).isEqualTo(NamespaceStatus.MODIFYING);
+        assertThrows(ConflictException.class,
+                () -> client.updateNamespace(UpdateNamespaceRequest.builder().namespaceName("ns").build()));
+
+        clock.advance(30000L);
+        assertThat(client.status("ns")).isEqualTo(NamespaceStatus.AVAILABLE);
+        client.updateNamespace(UpdateNamespaceRequest.builder().namespaceName("ns").adminUsername("admin").build());
+        assertThat(client.status("ns")).isEqualTo(NamespaceStatus.MODIFYING);
+
+        clock.advance(20000L);
+        client.deleteNamespace(DeleteNamespaceRequest.builder().namespaceName("ns").build());
+        assertThat(client.getNamespace(GetNamespaceRequest.builder().namespaceName("ns").build()).namespace().status())
+                .isEqualTo(NamespaceStatus.DELETING);
+
+        clock.advance(60000L);
+        assertThrows(ResourceNotFoundException.class,
+                () -> client.getNamespace(GetNamespaceRequest.builder().namespaceName("ns").build()));
+    }
+
+    @Test
+    public void behavior_AddsLatencyAndThrottles() {
+        final FakeClock clock = FakeClock.simulated();
+        final FakeRedshiftServerlessClient client = FakeRedshiftServerlessClient.builder()
+                .behavior(FakeServiceBehavior.builder().clock(clock).latency(Duration.ofMillis(150)).throttleEvery(3).build())
+                .build();
+        client.createNamespace(CreateNamespaceRequest.builder().namespaceName("ns").build());
+
+        client.getNamespace(GetNamespaceRequest.builder().namespaceName("ns").build());
+        assertThrows(ThrottlingException.class,
+                () -> client.getNamespace(GetNamespaceRequest.builder().namespaceName("ns").build()));
+
+        assertThat(clock.millis()).isEqualTo(450L);
+        assertThat(client.getBehavior().callCount("GetNamespace")).isEqualTo(2);
+        assertThat(client.getBehavior().throttledCount("GetNamespace")).isEqualTo(1);
+        assertThat(client.getBehavior().totalCalls()).isEqualTo(3);
+    }
+
+    @Test
+    public void resourcePolicy_ModelsUnsupportedAndUnauthorized() {
+        final GetResourcePolicyRequest request = GetResourcePolicyRequest.builder().resourceArn("arn").build();
+
+        assertThrows(software.amazon.awssdk.services.redshift.model.ResourceNotFoundException.class,
+                () -> FakeRedshiftClient.builder().build().getResourcePolicy(request));
+        assertThrows(software.amazon.awssdk.services.redshift.model.UnsupportedOperationException.class,
+                () -> FakeRedshiftClient.builder().unsupported(true).build().getResourcePolicy(request));
+        final RedshiftException unauthorized = assertThrows(RedshiftException.class,
+                () -> FakeRedshiftClient.builder().unauthorized(true).build().getResourcePolicy(request));
+        assertThat(unauthorized.statusCode()).isEqualTo(403);
+    }
+
+    @Test
+    public void createHandler_AgainstFake() {
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final FakeRedshiftServerlessClient sdkClient = FakeRedshiftServerlessClient.builder().build();
+        final FakeRedshiftClient redshiftClient = FakeRedshiftClient.builder().build();
+        final ProxyClient<RedshiftServerlessClient> proxyClient = MOCK_PROXY(proxy, sdkClient);
+        final ProxyClient<RedshiftClient> redshiftProxyClient = MOCK_PROXY(proxy, redshiftClient);
+
+        final ResourceModel model = getCreateRequestResourceModel();
+        model.setNamespaceResourcePolicy(Translator.convertStringToJson(NAMESPACE_RESOURCE_POLICY_DOCUMENT, logger));
+        model.setSnapshotCopyConfigurations(Collections.singletonList(SnapshotCopyConfiguration.builder()
+                .destinationRegion("us-west-2")
+                .snapshotRetentionPeriod(7)
+                .build()));
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getNamespace().getNamespaceArn()).startsWith("arn:aws:redshift-serverless:");
+        assertThat(response.getResourceModel().getIamRoles()).isEqualTo(model.getIamRoles());
+        assertThat(response.getResourceModel().getNamespaceResourcePolicy()).isEqualTo(model.getNamespaceResourcePolicy());
+        assertThat(response.getResourceModel().getSnapshotCopyConfigurations()).hasSize(1);
+        assertThat(sdkClient.getBehavior().callCount("CreateNamespace")).isEqualTo(1);
+        assertThat(sdkClient.getBehavior().callCount("GetNamespace")).isEqualTo(1);
+        assertThat(sdkClient.getBehavior().callCount("CreateSnapshotCopyConfiguration")).isEqualTo(1);
+        assertThat(sdkClient.getBehavior().callCount("ListSnapshotCopyConfigurations")).isEqualTo(1);
+        assertThat(redshiftClient.getBehavior().callCount("PutResourcePolicy")).isEqualTo(1);
+        assertThat(redshiftClient.getBehavior().callCount("GetResourcePolicy")).isEqualTo(1);
+    }
+}
@@ -1,24 +1,35 @@
 package software.amazon.redshiftserverless.namespace;
 
+import software.amazon.awssdk.services.redshiftserverless.model.ListNamespacesRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListNamespacesResponse;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.ListPager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.redshiftserverless.namespace.AbstractTestBase.AWS_REGION;
+import static software.amazon.redshiftserverless.namespace.AbstractTestBase.MOCK_PROXY;
 import static software.amazon.redshiftserverless.namespace.AbstractTestBase.getListRequestResourceModel;
 import static software.amazon.redshiftserverless.namespace.AbstractTestBase.getListResponsesResourceModel;
 import static software.amazon.redshiftserverless.namespace.AbstractTestBase.getListResponsesSdk;
@@ -37,6 +48,7 @@ public class ListHandlerTest {
         proxy = mock(AmazonWebServicesClientProxy.class);
         logger = mock(Logger.class);
         System.setProperty("aws.region", AWS_REGION);
+        doReturn(MOCK_PROXY(proxy, mock(RedshiftServerlessClient.class))).when(proxy).newProxy(any());
     }
 
     @Test
@@ -65,4 +77,116 @@ public class ListHandlerTest {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_MergesServicePagesWithinOneInvocation() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(getListRequestResourceModel())
+            .nextToken("token0")
+            .build();
+
+        doReturn(listPage("token1", "a", "b"), listPage("token2", "c", "d"), listPage("token3", "e", "f"),
+            listPage("token4", "g"), listPage("token5", "h"), listPage("token6", "i"))
+            .when(proxy).injectCredentialsAndInvokeV2(any(), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels())
+            .extracting(ResourceModel::getNamespaceName)
+            .containsExactly("a", "b", "c", "d", "e", "f", "g", "h");
+        // Capped at the pages merged per invocation, the rest is left to the next one
+        assertThat(response.getNextToken()).isEqualTo("token5");
+
+        final ArgumentCaptor<ListNamespacesRequest> captor = ArgumentCaptor.forClass(ListNamespacesRequest.class);
+        verify(proxy, times(ListPager.MAX_PAGES_PER_INVOCATION)).injectCredentialsAndInvokeV2(captor.capture(), any());
+        assertThat(captor.getAllValues())
+            .extracting(ListNamespacesRequest::nextToken)
+            .containsExactly("token0", "token1", "token2", "token3", "token4");
+        assertThat(captor.getAllValues())
+            .extracting(ListNamespacesRequest::maxResults)
+            .containsOnly(ListPager.MAX_RESULTS);
+    }
+
+    @Test
+    public void handleRequest_StopsAtLastServicePage() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(getListRequestResourceModel())
+            .build();
+
+        doReturn(listPage("token1", "a", "b"), listPage(null, "c"))
+            .when(proxy).injectCredentialsAndInvokeV2(any(), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getNextToken()).isNull();
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_HonoursRequestedMaxResults() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(getListRequestResourceModel())
+            .maxResults(3)
+            .build();
+
+        doReturn(listPage("token1", "a", "b"), listPage("token2", "c"))
+            .when(proxy).injectCredentialsAndInvokeV2(any(), any());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).hasSize(3);
+        assertThat(response.getNextToken()).isEqualTo("token2");
+
+        final ArgumentCaptor<ListNamespacesRequest> captor = ArgumentCaptor.forClass(ListNamespacesRequest.class);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(captor.capture(), any());
+        assertThat(captor.getAllValues())
+            .extracting(ListNamespacesRequest::maxResults)
+            .containsExactly(3, 1);
+    }
+
+    @Test
+    public void handleRequest_LogsOneMetricsSummary() {
+        final ListHandler handler = new ListHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(getListRequestResourceModel())
+            .build();
+
+        doReturn(listPage("token1", "a", "b"), listPage(null, "c"))
+            .when(proxy).injectCredentialsAndInvokeV2(any(), any());
+
+        handler.handleRequest(proxy, request, null, logger);
+
+        final ArgumentCaptor<String> lines = ArgumentCaptor.forClass(String.class);
+        verify(logger, atLeastOnce()).log(lines.capture());
+        final List<String> summaries = lines.getAllValues().stream()
+            .filter(line -> line.startsWith("{\"_aws\""))
+            .collect(Collectors.toList());
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0))
+            .contains("\"Handler\":\"ListHandler\"")
+            .contains("\"ListNamespaces.Calls\":2");
+    }
+
+    private static ListNamespacesResponse listPage(final String nextToken, final String... names) {
+        final List<software.amazon.awssdk.services.redshiftserverless.model.Namespace> namespaces = new ArrayList<>();
+        for (final String name : names) {
+            namespaces.add(software.amazon.awssdk.services.redshiftserverless.model.Namespace.builder().namespaceName(name).build());
+        }
+        return ListNamespacesResponse.builder()
+            .namespaces(namespaces)
+            .nextToken(nextToken)
+            .build();
+    }
 }
@@ -4,6 +4,10 @@ import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.stream.Stream;
 import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -33,6 +37,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import software.amazon.redshiftserverless.common.ApiMetrics;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -107,6 +112,52 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ListSnapshotCopyConfigurationsRunsAlongsideGetResourcePolicy() throws Exception {
+        final ReadHandler handler = new ReadHandler();
+        final CountDownLatch listStarted = new CountDownLatch(1);
+        final AtomicBoolean overlapped = new AtomicBoolean(false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getNamespaceRequestResourceModel())
+                .build();
+
+        when(proxyClient.client().listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class))).thenAnswer(invocation -> {
+            listStarted.countDown();
+            return getSnapshotCopyConfigurationsResponseSdk();
+        });
+        when(proxyClient.client().getNamespace(any(GetNamespaceRequest.class))).thenReturn(getNamespaceResponseSdk());
+        when(redshiftProxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenAnswer(invocation -> {
+            // Only completes promptly if the list call was issued without waiting for GetResourcePolicy
+            overlapped.set(listStarted.await(5, TimeUnit.SECONDS));
+            return getEmptyResourcePolicyResponseSdk();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
+
+        assertThat(overlapped.get()).isTrue();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getNamespaceResponseResourceModel());
+        verify(proxyClient.client(), times(1)).listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_MissingNamespaceSkipsListSnapshotCopyConfigurations() {
+        final ReadHandler handler = new ReadHandler();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getNamespaceRequestResourceModel())
+                .build();
+
+        when(proxyClient.client().getNamespace(any(GetNamespaceRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        verify(proxyClient.client()).getNamespace(any(GetNamespaceRequest.class));
+    }
+
     static Stream<Arguments> provideResourcePolicyExceptionParams() {
         return Stream.of(
                 Arguments.of(InvalidPolicyException.class, false, null),
@@ -150,9 +201,9 @@ public class ReadHandlerTest extends AbstractTestBase {
         when(proxyClient.client().getNamespace(any(GetNamespaceRequest.class))).thenReturn(getNamespaceResponseSdk());
         when(redshiftProxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class)))
                 .thenThrow((Throwable) createExceptionWithBuilder(exceptionClass));
+        when(proxyClient.client().listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class))).thenReturn(getSnapshotCopyConfigurationsResponseSdk());
 
         if (expectedException == null) {
-            when(proxyClient.client().listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class))).thenReturn(getSnapshotCopyConfigurationsResponseSdk());
             final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
             assertThat(response).isNotNull();
             assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -290,4 +341,31 @@ public class ReadHandlerTest extends AbstractTestBase {
             assertThat(response.getErrorCode()).isEqualTo(expectedErrorCode);
         }
     }
+
+    @Test
+    public void handleRequest_SnapshotCopyUnavailableRegionSkipsRepeatedLists() {
+        // The cache lives for the container, a region of its own keeps other tests from seeing the entry
+        final String region = "test-" + UUID.randomUUID();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getNamespaceRequestResourceModel())
+                .region(region)
+                .build();
+        final ApiMetrics metrics = new ApiMetrics(BaseHandlerStd.RESOURCE_TYPE, "ReadHandler");
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setMetrics(metrics);
+
+        when(proxyClient.client().listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class)))
+                .thenThrow(ValidationException.builder().message("CRC is not supported in this region").build());
+        when(proxyClient.client().getNamespace(any(GetNamespaceRequest.class))).thenReturn(getNamespaceResponseSdk());
+        when(redshiftProxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = new ReadHandler().handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> second = new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, redshiftProxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(second.getResourceModel()).isEqualTo(first.getResourceModel());
+        verify(proxyClient.client(), times(1)).listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class));
+        assertThat(metrics.toEmf(0L)).containsEntry("ListSnapshotCopyConfigurations.NegativeCacheHits", 1);
+    }
 }
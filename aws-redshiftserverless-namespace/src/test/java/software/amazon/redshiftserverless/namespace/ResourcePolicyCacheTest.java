@@ -0,0 +1,100 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * GetResourcePolicy errors remembered per region and account, against the in-memory fakes. Every test uses its own
+ * account so the container-wide cache does not carry over between tests.
+ */
+public class ResourcePolicyCacheTest extends AbstractTestBase {
+    private String accountId;
+    private AmazonWebServicesClientProxy proxy;
+    private FakeRedshiftServerlessClient sdkClient;
+    private ProxyClient<RedshiftServerlessClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        accountId = UUID.randomUUID().toString();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = FakeRedshiftServerlessClient.builder().region(AWS_REGION).accountId(accountId).build();
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+        sdkClient.createNamespace(Translator.translateToCreateRequest(getCreateRequestResourceModel()));
+    }
+
+    @Test
+    public void handleRequest_UnsupportedRegionSkipsRepeatedReads() {
+        final FakeRedshiftClient redshiftClient = FakeRedshiftClient.builder().unsupported(true).build();
+
+        assertThat(read(getCreateRequestResourceModel(), redshiftClient, new CallbackContext()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ApiMetrics metrics = new ApiMetrics(BaseHandlerStd.RESOURCE_TYPE, "ReadHandler");
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setMetrics(metrics);
+        assertThat(read(getCreateRequestResourceModel(), redshiftClient, callbackContext).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read(getCreateRequestResourceModel(), redshiftClient, callbackContext).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        assertThat(redshiftClient.getBehavior().callCount("GetResourcePolicy")).isEqualTo(1);
+        assertThat(metrics.toEmf(0L)).containsEntry("GetResourcePolicy.NegativeCacheHits", 2);
+    }
+
+    @Test
+    public void handleRequest_TemplateAddingPolicyIsNeverServedFromCache() {
+        final FakeRedshiftClient redshiftClient = FakeRedshiftClient.builder().unauthorized(true).build();
+        final ResourceModel withoutPolicy = getCreateRequestResourceModel();
+
+        // Suppressed and remembered while the template has no policy
+        assertThat(read(withoutPolicy, redshiftClient, new CallbackContext()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read(withoutPolicy, redshiftClient, new CallbackContext()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(redshiftClient.getBehavior().callCount("GetResourcePolicy")).isEqualTo(1);
+
+        // A template with a policy still reads it, and still fails while the permission is missing
+        final ResourceModel withPolicy = getCreateRequestResourceModel();
+        withPolicy.setNamespaceResourcePolicy(Translator.convertStringToJson(NAMESPACE_RESOURCE_POLICY_DOCUMENT, logger));
+        assertThrows(CfnGeneralServiceException.class, () -> read(withPolicy, redshiftClient, new CallbackContext()));
+        assertThat(redshiftClient.getBehavior().callCount("GetResourcePolicy")).isEqualTo(2);
+
+        // Once the permission is granted the update puts the policy and its read returns it
+        redshiftClient.setUnauthorized(false);
+        final ProgressEvent<ResourceModel, CallbackContext> update = new UpdateHandler().handleRequest(proxy,
+                request(withPolicy).toBuilder().previousResourceState(withoutPolicy).build(),
+                new CallbackContext(), proxyClient, MOCK_PROXY(proxy, redshiftClient), logger);
+        assertThat(update.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(update.getResourceModel().getNamespaceResourcePolicy()).isEqualTo(withPolicy.getNamespaceResourcePolicy());
+        assertThat(redshiftClient.getBehavior().callCount("GetResourcePolicy")).isEqualTo(3);
+
+        // The successful read cleared the entry, so reads without the policy in the template see it again
+        final ProgressEvent<ResourceModel, CallbackContext> read = read(withoutPolicy, redshiftClient, new CallbackContext());
+        assertThat(read.getResourceModel().getNamespaceResourcePolicy()).isEqualTo(withPolicy.getNamespaceResourcePolicy());
+        assertThat(redshiftClient.getBehavior().callCount("GetResourcePolicy")).isEqualTo(4);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> read(final ResourceModel model,
+                                                               final FakeRedshiftClient redshiftClient,
+                                                               final CallbackContext callbackContext) {
+        final ProxyClient<RedshiftClient> redshiftProxyClient = MOCK_PROXY(proxy, redshiftClient);
+        return new ReadHandler().handleRequest(proxy, request(model), callbackContext, proxyClient, redshiftProxyClient, logger);
+    }
+
+    private ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .awsAccountId(accountId)
+                .region(AWS_REGION)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.FakeClock;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+import software.amazon.redshiftserverless.common.HandlerSimulator;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Create, update and delete of a namespace replayed through {@link HandlerSimulator}. The report {@link #main} prints
+ * is what to compare when changing backoff schedules or batching API calls.
+ */
+public class StackSimulationTest extends AbstractTestBase {
+    private static final Duration API_LATENCY = Duration.ofMillis(120);
+    private static final Duration CREATE_DURATION = Duration.ofSeconds(20);
+    private static final Duration UPDATE_DURATION = Duration.ofSeconds(15);
+    private static final Duration DELETE_DURATION = Duration.ofSeconds(45);
+
+    @Test
+    public void createUpdateDelete() {
+        final HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulator = simulateStack();
+
+        for (final HandlerSimulator.StepReport step : simulator.getSteps()) {
+            // Each operation is handed back to CloudFormation at least once while the service works
+            assertThat(step.getInvocations()).as(step.getStep()).isGreaterThan(1);
+            assertThat(step.getWaitedMillis()).as(step.getStep()).isPositive();
+        }
+        assertThat(simulator.getSteps().get(0).getElapsedMillis()).isGreaterThanOrEqualTo(CREATE_DURATION.toMillis());
+        assertThat(simulator.getSteps().get(2).getElapsedMillis()).isGreaterThanOrEqualTo(DELETE_DURATION.toMillis());
+    }
+
+    /**
+     * Prints the report, run it before and after a change to backoff schedules or API call batching.
+     */
+    public static void main(final String[] args) {
+        System.out.print(simulateStack().report("namespace create/update/delete"));
+    }
+
+    private static HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulateStack() {
+        final FakeServiceBehavior behavior = FakeServiceBehavior.builder()
+                .clock(FakeClock.simulated())
+                .latency(API_LATENCY)
+                .build();
+        final HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulator = simulator(
+                FakeRedshiftServerlessClient.builder()
+                        .behavior(behavior)
+                        .createDuration(CREATE_DURATION)
+                        .updateDuration(UPDATE_DURATION)
+                        .deleteDuration(DELETE_DURATION)
+                        .build(),
+                FakeRedshiftClient.builder().behavior(behavior).build());
+
+        final ResourceModel created = getCreateRequestResourceModel();
+        created.setNamespaceResourcePolicy(Translator.convertStringToJson(NAMESPACE_RESOURCE_POLICY_DOCUMENT, logger));
+        created.setSnapshotCopyConfigurations(Collections.singletonList(SnapshotCopyConfiguration.builder()
+                .destinationRegion("us-west-2")
+                .snapshotRetentionPeriod(7)
+                .build()));
+        final ProgressEvent<ResourceModel, CallbackContext> create = simulator.run("create", new CreateHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(created).build());
+        assertThat(create.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ResourceModel updated = getCreateRequestResourceModel();
+        updated.setIamRoles(Arrays.asList(
+                "arn:aws:iam::123456789012:role/redshift-serverless-role-1",
+                "arn:aws:iam::123456789012:role/redshift-serverless-role-2"));
+        updated.setLogExports(Arrays.asList("useractivitylog", "userlog"));
+        updated.setNamespaceResourcePolicy(created.getNamespaceResourcePolicy());
+        updated.setSnapshotCopyConfigurations(Collections.singletonList(SnapshotCopyConfiguration.builder()
+                .destinationRegion("us-west-2")
+                .snapshotRetentionPeriod(14)
+                .build()));
+        final ProgressEvent<ResourceModel, CallbackContext> update = simulator.run("update", new UpdateHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(updated)
+                        .previousResourceState(created)
+                        .build());
+        assertThat(update.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(update.getResourceModel().getIamRoles()).isEqualTo(updated.getIamRoles());
+
+        final ProgressEvent<ResourceModel, CallbackContext> delete = simulator.run("delete", new DeleteHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(getDeleteRequestResourceModel()).build());
+        assertThat(delete.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return simulator;
+    }
+}
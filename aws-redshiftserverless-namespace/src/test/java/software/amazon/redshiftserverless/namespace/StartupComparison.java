@@ -0,0 +1,113 @@
+package software.amazon.redshiftserverless.namespace;
+
+import software.amazon.awssdk.services.redshiftserverless.model.CreateNamespaceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Startup comparison for the AppCDS archive built by the {@code appcds} profile. Launches fresh JVMs that each run one
+ * read through {@link ReadHandler} against the in-memory fakes and report the time from JVM start to the handler
+ * response being serialized, alternating runs without and with the archive.
+ *
+ * <pre>
+ * java -cp target/test-classes StartupComparison &lt;handler jar&gt; &lt;archive&gt; [runs]
+ * </pre>
+ *
+ * The child JVMs put the handler jar first on the class path, as it was when the archive was dumped; a different jar
+ * or path makes the JVM silently ignore the archive. Add {@code -Xlog:class+load} to a child command to check that
+ * classes come from the "shared objects file".
+ */
+public class StartupComparison {
+    static final String FIRST_INVOCATION = "--first-invocation";
+    private static final String RESULT_PREFIX = "first-response-millis=";
+    private static final int DEFAULT_RUNS = 10;
+
+    public static void main(final String[] args) throws Exception {
+        if (args.length > 0 && FIRST_INVOCATION.equals(args[0])) {
+            firstInvocation();
+            return;
+        }
+        if (args.length < 2) {
+            System.err.println("usage: StartupComparison <handler jar> <archive> [runs]");
+            System.exit(2);
+        }
+        final String jar = new File(args[0]).getAbsolutePath();
+        final String archive = new File(args[1]).getAbsolutePath();
+        final int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+        final String classpath = jar + File.pathSeparator
+                + new File(StartupComparison.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getAbsolutePath();
+
+        final List<Long> without = new ArrayList<>();
+        final List<Long> with = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            without.add(launch(classpath, Collections.<String>emptyList()));
+            with.add(launch(classpath, Arrays.asList("-Xshare:auto", "-XX:SharedArchiveFile=" + archive)));
+        }
+        System.out.println(String.format("JVM start to first handleRequest response over %d runs", runs));
+        System.out.println(summary("without archive", without));
+        System.out.println(summary("with archive", with));
+    }
+
+    /**
+     * Runs in the child JVM. Setting up the fakes is part of the measured time, it is small next to class loading.
+     */
+    private static void firstInvocation() throws IOException {
+        final FakeRedshiftServerlessClient sdkClient = FakeRedshiftServerlessClient.builder().build();
+        final FakeRedshiftClient redshiftClient = FakeRedshiftClient.builder().build();
+        final ResourceModel model = AbstractTestBase.getNamespaceRequestResourceModel();
+        sdkClient.createNamespace(CreateNamespaceRequest.builder().namespaceName(model.getNamespaceName()).build());
+        final LoggerProxy logger = new LoggerProxy();
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, AbstractTestBase.MOCK_CREDENTIALS, () -> 0L);
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(),
+                new CallbackContext(),
+                AbstractTestBase.MOCK_PROXY(proxy, sdkClient),
+                AbstractTestBase.MOCK_PROXY(proxy, redshiftClient),
+                logger);
+        new Serializer().serialize(response);
+        final long respondedAt = System.currentTimeMillis();
+        System.out.println(RESULT_PREFIX + (respondedAt - ManagementFactory.getRuntimeMXBean().getStartTime()));
+    }
+
+    private static long launch(final String classpath, final List<String> jvmOptions) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(new File(System.getProperty("java.home"), "bin" + File.separator + "java").getPath());
+        command.addAll(jvmOptions);
+        command.addAll(Arrays.asList("-cp", classpath, StartupComparison.class.getName(), FIRST_INVOCATION));
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Long millis = null;
+        try (BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    millis = Long.parseLong(line.substring(RESULT_PREFIX.length()));
+                }
+            }
+        }
+        if (process.waitFor() != 0 || millis == null) {
+            throw new IllegalStateException("Startup run failed: " + String.join(" ", command));
+        }
+        return millis;
+    }
+
+    private static String summary(final String label, final List<Long> samples) {
+        final List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        return String.format("  %-16s median=%dms min=%dms max=%dms", label,
+                sorted.get(sorted.size() / 2), sorted.get(0), sorted.get(sorted.size() - 1));
+    }
+}
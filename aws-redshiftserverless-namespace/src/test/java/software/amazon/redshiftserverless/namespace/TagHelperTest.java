@@ -0,0 +1,95 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class TagHelperTest {
+
+    @Test
+    public void generateTagsForCreate_MergesSystemStackAndResourceTags() {
+        final ResourceModel model = ResourceModel.builder()
+                .tags(Arrays.asList(Tag.builder().key("team").value("resource").build(),
+                        Tag.builder().key("owner").value("alice").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .systemTags(Collections.singletonMap("aws:cloudformation:stack-name", "stack"))
+                .desiredResourceTags(tags("team", "stack", "env", "prod"))
+                .desiredResourceState(model)
+                .build();
+
+        assertThat(TagHelper.generateTagsForCreate(model, request)).containsOnly(
+                entry("aws:cloudformation:stack-name", "stack"),
+                entry("team", "resource"),
+                entry("env", "prod"),
+                entry("owner", "alice"));
+    }
+
+    @Test
+    public void shouldUpdateTags_IgnoresUnchangedSystemTags() {
+        final ResourceModel model = ResourceModel.builder()
+                .tags(Collections.singletonList(Tag.builder().key("owner").value("alice").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .systemTags(Collections.singletonMap("aws:cloudformation:stack-name", "stack"))
+                .previousSystemTags(Collections.singletonMap("aws:cloudformation:stack-name", "stack"))
+                .desiredResourceTags(tags("env", "prod"))
+                .previousResourceTags(tags("env", "prod"))
+                .desiredResourceState(model)
+                .previousResourceState(model.toBuilder().build())
+                .build();
+
+        assertThat(TagHelper.shouldUpdateTags(model, request)).isFalse();
+
+        request.setDesiredResourceTags(tags("env", "dev"));
+        assertThat(TagHelper.shouldUpdateTags(model, request)).isTrue();
+    }
+
+    @Test
+    public void generateTagsToAdd_OnlyNewAndRevaluedKeys() {
+        final Map<String, String> current = tags("kept", "value", "revalued", "old", "aws:cloudformation:stack-id", "id");
+        final Map<String, String> desired = tags("kept", "value", "revalued", "new", "added", "value", "aws:cloudformation:stack-id", "other");
+
+        assertThat(TagHelper.generateTagsToAdd(current, desired)).containsOnly(
+                entry("revalued", "new"),
+                entry("added", "value"));
+    }
+
+    @Test
+    public void generateTagsToRemove_LeavesOutOfBandAndSystemTags() {
+        final Map<String, String> previous = tags("removed", "value", "already-gone", "value", "aws:cloudformation:stack-id", "id");
+        final Map<String, String> current = tags("removed", "value", "out-of-band", "value", "aws:cloudformation:stack-id", "id");
+
+        assertThat(TagHelper.generateTagsToRemove(previous, current, Collections.emptyMap())).containsExactly("removed");
+    }
+
+    @Test
+    public void batches_SizedToTheServiceLimit() {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < 2 * TagHelper.MAX_TAGS_PER_CALL + 50; i++) {
+            tags.put("key" + i, "value" + i);
+        }
+
+        final List<List<String>> batches = TagHelper.batches(tags.keySet());
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(0)).hasSize(TagHelper.MAX_TAGS_PER_CALL);
+        assertThat(batches.get(2)).hasSize(50);
+        assertThat(TagHelper.batches(Collections.<String>emptySet())).isEmpty();
+    }
+
+    private static Map<String, String> tags(final String... keysAndValues) {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            tags.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,153 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.Namespace;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the {@link Translator} read-path helpers. Not picked up by surefire; run with
+ * {@code mvn -P benchmark verify}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final Logger LOGGER = message -> { };
+
+    @State(Scope.Benchmark)
+    public static class IamRoles {
+        @Param({"1", "10", "50"})
+        private int roleCount;
+
+        private List<String> iamRoles;
+
+        @Setup
+        public void setup() {
+            iamRoles = new ArrayList<>(roleCount);
+            for (int i = 0; i < roleCount; i++) {
+                iamRoles.add(String.format("IamRole(applyStatus=in-sync, iamRoleArn=arn:aws:iam::123456789012:role/redshift-serverless-role-%d)", i));
+            }
+        }
+    }
+
+    /**
+     * GetNamespace as the service returns it for a namespace with every optional field set.
+     */
+    @State(Scope.Benchmark)
+    public static class ReadResponses {
+        @Param({"1", "10"})
+        private int roleCount;
+
+        private GetNamespaceResponse response;
+
+        @Setup
+        public void setup() {
+            final List<String> iamRoles = new ArrayList<>(roleCount);
+            for (int i = 0; i < roleCount; i++) {
+                iamRoles.add(String.format("IamRole(applyStatus=in-sync, iamRoleArn=arn:aws:iam::123456789012:role/redshift-serverless-role-%d)", i));
+            }
+            response = GetNamespaceResponse.builder()
+                    .namespace(Namespace.builder()
+                            .namespaceName("analytics")
+                            .namespaceId("5e0a4b43-7f47-4c1c-8a6e-2d3b1f9c0e11")
+                            .namespaceArn("arn:aws:redshift-serverless:us-east-1:123456789012:namespace/5e0a4b43-7f47-4c1c-8a6e-2d3b1f9c0e11")
+                            .adminUsername("admin")
+                            .dbName("dev")
+                            .defaultIamRoleArn("arn:aws:iam::123456789012:role/redshift-serverless-role-0")
+                            .iamRoles(iamRoles)
+                            .kmsKeyId("arn:aws:kms:us-east-1:123456789012:key/1a2b3c4d-5e6f-7a8b-9c0d-1e2f3a4b5c6d")
+                            .logExportsWithStrings("useractivitylog", "userlog", "connectionlog")
+                            .adminPasswordSecretArn("arn:aws:secretsmanager:us-east-1:123456789012:secret:redshift!analytics-admin")
+                            .adminPasswordSecretKmsKeyId("arn:aws:kms:us-east-1:123456789012:key/1a2b3c4d-5e6f-7a8b-9c0d-1e2f3a4b5c6d")
+                            .creationDate(Instant.parse("2024-05-01T10:15:30Z"))
+                            .build())
+                    .build();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Policies {
+        @Param({"1", "10"})
+        private int statementCount;
+
+        private String policy;
+        private String encodedPolicy;
+        private Map<String, Object> document;
+
+        @Setup
+        public void setup() throws UnsupportedEncodingException {
+            final StringBuilder builder = new StringBuilder("{\"Version\":\"2012-10-17\",\"Statement\":[");
+            for (int i = 0; i < statementCount; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(String.format("{\"Sid\":\"AllowRestore%d\",\"Effect\":\"Allow\","
+                        + "\"Principal\":{\"AWS\":[\"arn:aws:iam::1234567890%02d:root\",\"arn:aws:iam::1234567890%02d:role/restore\"]},"
+                        + "\"Action\":[\"redshift-serverless:RestoreFromSnapshot\",\"redshift-serverless:RestoreTableFromSnapshot\"],"
+                        + "\"Resource\":\"*\"}", i, i, i));
+            }
+            policy = builder.append("]}").toString();
+            encodedPolicy = URLEncoder.encode(policy, StandardCharsets.UTF_8.toString());
+            document = Translator.convertStringToJson(policy, LOGGER);
+        }
+    }
+
+    @Benchmark
+    public List<String> translateIamRoles(final IamRoles state) {
+        return Translator.translateIamRoles(state.iamRoles);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse(final ReadResponses state) {
+        return Translator.translateFromReadResponse(state.response);
+    }
+
+    @Benchmark
+    public Map<String, Object> convertStringToJson(final Policies state) {
+        return Translator.convertStringToJson(state.policy, LOGGER);
+    }
+
+    @Benchmark
+    public Map<String, Object> convertUrlEncodedStringToJson(final Policies state) {
+        return Translator.convertStringToJson(state.encodedPolicy, LOGGER);
+    }
+
+    @Benchmark
+    public String convertJsonToString(final Policies state) {
+        return Translator.convertJsonToString(state.document, LOGGER);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TranslatorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,82 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TranslatorTest {
+    private static final Logger LOGGER = message -> { };
+    private static final String ROLE_ARN = "arn:aws:iam::254260483320:role/contracttest9nfdg-redshif-RedshiftServerlessNamespa-nAxEywsQousB";
+
+    @Test
+    public void extractIamRoleArn_FromSdkIamRoleString() {
+        assertThat(Translator.extractIamRoleArn("IamRole(applyStatus=null, iamRoleArn=" + ROLE_ARN + ")")).isEqualTo(ROLE_ARN);
+        assertThat(Translator.extractIamRoleArn("IamRole(applyStatus=in-sync, iamRoleArn=" + ROLE_ARN + ")")).isEqualTo(ROLE_ARN);
+    }
+
+    @Test
+    public void extractIamRoleArn_FromPlainArn() {
+        assertThat(Translator.extractIamRoleArn(ROLE_ARN)).isEqualTo(ROLE_ARN);
+        assertThat(Translator.extractIamRoleArn("arn:aws-cn:iam::123456789012:role/MyRole"))
+                .isEqualTo("arn:aws-cn:iam::123456789012:role/MyRole");
+        assertThat(Translator.extractIamRoleArn("arn:aws-us-gov:iam::123456789012:role/MyRole"))
+                .isEqualTo("arn:aws-us-gov:iam::123456789012:role/MyRole");
+    }
+
+    @Test
+    public void extractIamRoleArn_MalformedInputs() {
+        assertThat(Translator.extractIamRoleArn(null)).isNull();
+        assertThat(Translator.extractIamRoleArn("")).isNull();
+        assertThat(Translator.extractIamRoleArn("IamRole(applyStatus=null, iamRoleArn=null)")).isNull();
+        assertThat(Translator.extractIamRoleArn("arn:aws:iam::12345:role/ShortAccount")).isNull();
+        assertThat(Translator.extractIamRoleArn("arn:aws:iam::123456789012:user/NotARole")).isNull();
+        assertThat(Translator.extractIamRoleArn("arn:aws:s3:::bucket")).isNull();
+        assertThat(Translator.extractIamRoleArn("arn:aws:iam::123456789012:role/")).isNull();
+    }
+
+    @Test
+    public void translateIamRoles_DropsUnparseableRoles() {
+        assertThat(Translator.translateIamRoles(null)).isEmpty();
+        assertThat(Translator.translateIamRoles(Collections.emptyList())).isEmpty();
+        assertThat(Translator.translateIamRoles(Arrays.asList(
+                "IamRole(applyStatus=null, iamRoleArn=" + ROLE_ARN + ")",
+                null,
+                "IamRole(applyStatus=null, iamRoleArn=)",
+                ROLE_ARN)))
+                .containsExactly(ROLE_ARN, ROLE_ARN);
+    }
+
+    @Test
+    public void convertStringToJson_PlainAndUrlEncodedPolicies() throws Exception {
+        final String policy = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Principal\":{\"AWS\":\"arn:aws:iam::123456789012:root\"},\"Action\":\"redshift-serverless:RestoreFromSnapshot\",\"Sid\":\"a b\"}]}";
+        final Map<String, Object> expected = Translator.convertStringToJson(policy, LOGGER);
+
+        assertThat(expected).containsKeys("Version", "Statement");
+        assertThat(Translator.convertStringToJson(URLEncoder.encode(policy, StandardCharsets.UTF_8.toString()), LOGGER)).isEqualTo(expected);
+        assertThat(Translator.convertStringToJson(policy.replace("a b", "a+b"), LOGGER)).isEqualTo(expected);
+    }
+
+    @Test
+    public void convertStringToJson_EmptyOrInvalidPolicy() {
+        assertThat(Translator.convertStringToJson(null, LOGGER)).isNull();
+        assertThat(Translator.convertStringToJson("", LOGGER)).isNull();
+        assertThat(Translator.convertStringToJson("{\"Version\":", LOGGER)).isNull();
+    }
+
+    @Test
+    public void convertJsonToString_RoundTrips() {
+        final Map<String, Object> policy = new HashMap<>();
+        policy.put("Version", "2012-10-17");
+        policy.put("Statement", Collections.singletonList(Collections.singletonMap("Effect", "Allow")));
+
+        assertThat(Translator.convertStringToJson(Translator.convertJsonToString(policy, LOGGER), LOGGER)).isEqualTo(policy);
+    }
+}
@@ -0,0 +1,109 @@
+package software.amazon.redshiftserverless.namespace;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the snapshot copy configuration diff computed on every namespace update. Not picked up by surefire; run
+ * with {@code mvn -P benchmark verify}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateHandlerBenchmark {
+    private static final String[] REGIONS = {
+            "us-east-1", "us-east-2", "us-west-1", "us-west-2", "ca-central-1", "eu-west-1", "eu-west-2", "eu-west-3",
+            "eu-central-1", "eu-north-1", "eu-south-1", "ap-south-1", "ap-northeast-1", "ap-northeast-2",
+            "ap-northeast-3", "ap-southeast-1", "ap-southeast-2", "sa-east-1", "me-south-1", "af-south-1"
+    };
+
+    /**
+     * Destination regions in the template. Across them, the update drops one, adds one, changes one retention period
+     * and rotates one KMS key, and one configuration exists in the service that the previous template did not know of.
+     */
+    @Param({"1", "5", "20"})
+    private int regionCount;
+
+    private Map<String, SnapshotCopyConfiguration> desired;
+    private Map<String, SnapshotCopyConfiguration> previous;
+    private Map<String, software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration> existing;
+
+    @Setup
+    public void setup() {
+        desired = new HashMap<>();
+        previous = new HashMap<>();
+        existing = new HashMap<>();
+        for (int i = 0; i < regionCount; i++) {
+            final String region = REGIONS[i];
+            final SnapshotCopyConfiguration configuration = configuration(region, "key-" + i, 7);
+            existing.put(region, software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration.builder()
+                    .snapshotCopyConfigurationId("scc-" + i)
+                    .namespaceName("analytics")
+                    .destinationRegion(region)
+                    .destinationKmsKeyId(configuration.getDestinationKmsKeyId())
+                    .snapshotRetentionPeriod(configuration.getSnapshotRetentionPeriod())
+                    .build());
+            if (i != 1) {
+                previous.put(region, configuration);
+            }
+            if (i == 0 && regionCount > 1) {
+                continue;
+            }
+            if (i == 2) {
+                desired.put(region, configuration(region, "key-" + i, 14));
+            } else if (i == 3) {
+                desired.put(region, configuration(region, "rotated", 7));
+            } else {
+                desired.put(region, configuration);
+            }
+        }
+        if (regionCount < REGIONS.length) {
+            desired.put(REGIONS[regionCount], SnapshotCopyConfiguration.builder()
+                    .destinationRegion(REGIONS[regionCount])
+                    .snapshotRetentionPeriod(7)
+                    .build());
+        }
+    }
+
+    private static SnapshotCopyConfiguration configuration(final String region, final String keyId, final int retentionPeriod) {
+        return SnapshotCopyConfiguration.builder()
+                .destinationRegion(region)
+                .destinationKmsKeyId("arn:aws:kms:" + region + ":123456789012:key/" + keyId)
+                .snapshotRetentionPeriod(retentionPeriod)
+                .build();
+    }
+
+    @Benchmark
+    public UpdateHandler.SnapshotCopyConfigurationDiff getSnapshotCopyConfigurationDiff() {
+        // The handler builds fresh maps per invocation and the diff adds to the previous one
+        return UpdateHandler.getSnapshotCopyConfigurationDiff(desired, new HashMap<>(previous), existing);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UpdateHandlerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -1,7 +1,10 @@
 package software.amazon.redshiftserverless.namespace;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.*;
@@ -13,6 +16,12 @@ import software.amazon.awssdk.services.redshiftserverless.model.DeleteSnapshotCo
 import software.amazon.awssdk.services.redshiftserverless.model.GetNamespaceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListSnapshotCopyConfigurationsResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateNamespaceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.SnapshotCopyConfiguration;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateSnapshotCopyConfigurationRequest;
@@ -26,12 +35,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -95,6 +106,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
         verify(proxyClient.client()).updateNamespace(any(UpdateNamespaceRequest.class));
+        // The ARN lookup and the final read reuse the GetNamespace response from stabilization
+        verify(proxyClient.client(), times(1)).getNamespace(any(GetNamespaceRequest.class));
         verify(proxyClient.client(), times(2)).listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class));
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -105,6 +118,107 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_NoNamespacePropertyChangeSkipsUpdateNamespace() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel requestResourceModel = getUpdateRequestResourceModel();
+        final ResourceModel responseResourceModel = getUpdateResponseResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(getUpdateRequestResourceModel())
+            .desiredResourceState(requestResourceModel)
+            .build();
+
+        when(proxyClient.client().listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class))).thenReturn(getSnapshotCopyConfigurationsResponseSdk());
+        when(proxyClient.client().getNamespace(any(GetNamespaceRequest.class))).thenReturn(getNamespaceResponseSdk());
+        when(redshiftProxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
+
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
+        verify(proxyClient.client(), never()).updateNamespace(any(UpdateNamespaceRequest.class));
+        // No stabilization, the ARN lookup reads the namespace once and the final read reuses it
+        verify(proxyClient.client(), times(1)).getNamespace(any(GetNamespaceRequest.class));
+        verify(proxyClient.client(), times(2)).listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class));
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(responseResourceModel);
+        assertThat(response.getErrorCode()).isNull();
+    }
+
+    @Test
+    public void handleRequest_TagsReconciledWithoutReplacement() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel prevModel = getUpdateRequestResourceModel().toBuilder()
+                .tags(Arrays.asList(Tag.builder().key("kept").value("value").build(),
+                        Tag.builder().key("revalued").value("old").build(),
+                        Tag.builder().key("removed").value("value").build()))
+                .build();
+        final ResourceModel requestResourceModel = getUpdateRequestResourceModel().toBuilder()
+                .tags(Arrays.asList(Tag.builder().key("kept").value("value").build(),
+                        Tag.builder().key("revalued").value("new").build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(prevModel)
+            .desiredResourceState(requestResourceModel)
+            .previousResourceTags(Collections.singletonMap("stack", "old"))
+            .desiredResourceTags(Collections.singletonMap("stack", "new"))
+            .build();
+
+        when(proxyClient.client().listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class))).thenReturn(getSnapshotCopyConfigurationsResponseSdk());
+        when(proxyClient.client().getNamespace(any(GetNamespaceRequest.class))).thenReturn(getNamespaceResponseSdk());
+        when(redshiftProxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+                .tags(sdkTag("kept", "value"), sdkTag("revalued", "old"), sdkTag("removed", "value"), sdkTag("stack", "old"), sdkTag("out-of-band", "value"))
+                .build());
+        when(proxyClient.client().untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), never()).updateNamespace(any(UpdateNamespaceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        final ArgumentCaptor<UntagResourceRequest> untagRequest = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        verify(proxyClient.client(), times(1)).untagResource(untagRequest.capture());
+        assertThat(untagRequest.getValue().tagKeys()).containsExactly("removed");
+        final ArgumentCaptor<TagResourceRequest> tagRequest = ArgumentCaptor.forClass(TagResourceRequest.class);
+        verify(proxyClient.client(), times(1)).tagResource(tagRequest.capture());
+        assertThat(tagRequest.getValue().tags()).containsExactlyInAnyOrder(sdkTag("revalued", "new"), sdkTag("stack", "new"));
+        assertThat(tagRequest.getValue().resourceArn()).isEqualTo(NAMESPACE_ARN);
+        verify(proxyClient.client(), times(1)).getNamespace(any(GetNamespaceRequest.class));
+        verify(proxyClient.client(), times(2)).listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_TagsBatchedToTheServiceLimit() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TagHelper.MAX_TAGS_PER_CALL + 1; i++) {
+            tags.add(Tag.builder().key("key" + i).value("value" + i).build());
+        }
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(getUpdateRequestResourceModel())
+            .desiredResourceState(getUpdateRequestResourceModel().toBuilder().tags(tags).build())
+            .build();
+
+        when(proxyClient.client().listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class))).thenReturn(getSnapshotCopyConfigurationsResponseSdk());
+        when(proxyClient.client().getNamespace(any(GetNamespaceRequest.class))).thenReturn(getNamespaceResponseSdk());
+        when(redshiftProxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(2)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), times(1)).getNamespace(any(GetNamespaceRequest.class));
+        verify(proxyClient.client(), times(2)).listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class));
+    }
+
     @Test
     public void testDeleteNamespaceResourcePolicy() {
         final UpdateHandler handler = new UpdateHandler();
@@ -373,6 +487,65 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_SnapshotCopyConfiguration_AlreadyDeletedStillReCreated() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel requestResourceModel = getUpdateRequestResourceModel().toBuilder()
+                .snapshotCopyConfigurations(Collections.singletonList(software.amazon.redshiftserverless.namespace.SnapshotCopyConfiguration.builder()
+                        .destinationRegion("us-west-1")
+                        .build()))
+                .build();
+        final ResourceModel prevModel = ResourceModel.builder()
+                .namespaceName(NAMESPACE_NAME)
+                .snapshotCopyConfigurations(Collections.singletonList(software.amazon.redshiftserverless.namespace.SnapshotCopyConfiguration.builder()
+                        .destinationRegion("us-west-2")
+                        .build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(prevModel)
+                .desiredResourceState(requestResourceModel)
+                .build();
+
+        final SnapshotCopyConfiguration oldSnapshotCopyConfiguration = SnapshotCopyConfiguration.builder()
+                .snapshotCopyConfigurationId("snap-id-1234")
+                .destinationRegion("us-west-2")
+                .namespaceName(requestResourceModel.getNamespaceName())
+                .build();
+        final SnapshotCopyConfiguration newSnapshotCopyConfiguration = SnapshotCopyConfiguration.builder()
+                .snapshotCopyConfigurationId("snap-id-5678")
+                .destinationRegion("us-west-1")
+                .namespaceName(requestResourceModel.getNamespaceName())
+                .destinationKmsKeyId("AWS_OWNED_KMS_KEY")
+                .snapshotRetentionPeriod(-1)
+                .build();
+
+        // Removed out of band between the list and the delete
+        when(proxyClient.client().deleteSnapshotCopyConfiguration(any(DeleteSnapshotCopyConfigurationRequest.class)))
+                .thenThrow(software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException.builder().build());
+        when(proxyClient.client().createSnapshotCopyConfiguration(any(CreateSnapshotCopyConfigurationRequest.class)))
+                .thenReturn(CreateSnapshotCopyConfigurationResponse.builder()
+                        .snapshotCopyConfiguration(newSnapshotCopyConfiguration)
+                        .build());
+        when(proxyClient.client().listSnapshotCopyConfigurations(any(ListSnapshotCopyConfigurationsRequest.class)))
+                .thenReturn(ListSnapshotCopyConfigurationsResponse.builder()
+                        .snapshotCopyConfigurations(Collections.singletonList(oldSnapshotCopyConfiguration))
+                        .build())
+                .thenReturn(ListSnapshotCopyConfigurationsResponse.builder()
+                        .snapshotCopyConfigurations(Collections.singletonList(newSnapshotCopyConfiguration))
+                        .build());
+        when(proxyClient.client().updateNamespace(any(UpdateNamespaceRequest.class))).thenReturn(getUpdateResponseSdk());
+        when(proxyClient.client().getNamespace(any(GetNamespaceRequest.class))).thenReturn(getNamespaceResponseSdk());
+        when(redshiftProxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
+
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, redshiftProxyClient, logger);
+        verify(proxyClient.client()).updateNamespace(any(UpdateNamespaceRequest.class));
+        verify(proxyClient.client(), times(1)).deleteSnapshotCopyConfiguration(any(DeleteSnapshotCopyConfigurationRequest.class));
+        verify(proxyClient.client(), times(1)).createSnapshotCopyConfiguration(any(CreateSnapshotCopyConfigurationRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getSnapshotCopyConfigurations()).extracting("destinationRegion").containsExactly("us-west-1");
+    }
+
     @Test
     public void handleRequest_SnapshotCopyConfiguration_Update() {
         final UpdateHandler handler = new UpdateHandler();
@@ -438,4 +611,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    private static software.amazon.awssdk.services.redshiftserverless.model.Tag sdkTag(final String key, final String value) {
+        return software.amazon.awssdk.services.redshiftserverless.model.Tag.builder().key(key).value(value).build();
+    }
 }
@@ -4,15 +4,19 @@ import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClie
 import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
 import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.RedshiftServerlessResponse;
 import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.redshiftserverless.model.WorkgroupStatus;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.redshiftserverless.common.AdaptiveDelay;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+import software.amazon.redshiftserverless.common.ApiRateLimiter;
 
 import java.time.Duration;
 
@@ -20,31 +24,127 @@ import java.time.Duration;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
+    protected static final String RESOURCE_TYPE = "AWS::RedshiftServerless::Workgroup";
+    protected static final String SERVICE_NAME = "redshift-serverless";
+
     public static final String BUSY_WORKGROUP_RETRY_EXCEPTION_MESSAGE =
             "There is an operation running on the existing workgroup";
 
+    protected static final int BUSY_WORKGROUP_MAX_RETRIES = 5;
+
+    protected static final int BUSY_WORKGROUP_RETRY_DELAY_SECONDS = 10;
+
+    static {
+        // Handlers are built while the function initializes, so the hook is in place before a SnapStart checkpoint
+        Priming.register();
+    }
+
     protected static boolean isRetriableWorkgroupException(ConflictException exception) {
         return exception.getMessage().contains(BUSY_WORKGROUP_RETRY_EXCEPTION_MESSAGE);
     }
 
-    protected static final Constant BACKOFF_STRATEGY = Constant.of()
+    /**
+     * Hands a busy workgroup back to CloudFormation so the handler is re-invoked after a delay instead of
+     * sleeping inside the invocation. The failed call is not cached in the callback context, so the
+     * re-invocation issues it again.
+     * @return IN_PROGRESS event with a callback delay, or null when the exception is not retriable or the
+     * attempts are exhausted and the caller should fall through to its regular error handling
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> retryOnBusyWorkgroup(final String operation,
+                                                                                 final Exception exception,
+                                                                                 final ResourceModel model,
+                                                                                 final CallbackContext context,
+                                                                                 final Logger logger) {
+        if (!(exception instanceof ConflictException) || !isRetriableWorkgroupException((ConflictException) exception)) {
+            return null;
+        }
+
+        int attempt = context.getBusyWorkgroupRetryAttempts();
+        if (attempt >= BUSY_WORKGROUP_MAX_RETRIES) {
+            return null;
+        }
+
+        context.setBusyWorkgroupRetryAttempts(attempt + 1);
+        logger.log(String.format("Retrying %s due to expected ConflictException: %s. Attempt %d/%d",
+                operation, exception.getMessage(), attempt + 1, BUSY_WORKGROUP_MAX_RETRIES));
+
+        return ProgressEvent.defaultInProgressHandler(context, BUSY_WORKGROUP_RETRY_DELAY_SECONDS, model);
+    }
+
+    /**
+     * Kind of change being stabilized. Each one polls on a schedule that matches how long it usually takes:
+     * tag changes settle within seconds while creating a workgroup takes minutes.
+     */
+    protected enum StabilizeOperation {
+        CREATE,
+        UPDATE,
+        UPDATE_TAGS,
+        DELETE
+    }
+
+    private static final Delay CREATE_BACKOFF_STRATEGY = AdaptiveDelay.of()
             .timeout(Duration.ofMinutes(30L))
-            .delay(Duration.ofSeconds(5L))
+            .initialDelay(Duration.ofSeconds(5L))
+            .fastAttempts(3)
+            .maxDelay(Duration.ofSeconds(30L))
             .build();
 
+    private static final Delay UPDATE_BACKOFF_STRATEGY = AdaptiveDelay.of()
+            .timeout(Duration.ofMinutes(30L))
+            .initialDelay(Duration.ofSeconds(5L))
+            .fastAttempts(3)
+            .maxDelay(Duration.ofSeconds(20L))
+            .build();
+
+    private static final Delay UPDATE_TAGS_BACKOFF_STRATEGY = AdaptiveDelay.of()
+            .timeout(Duration.ofMinutes(30L))
+            .initialDelay(Duration.ofSeconds(2L))
+            .fastAttempts(3)
+            .maxDelay(Duration.ofSeconds(10L))
+            .build();
+
+    private static final Delay DELETE_BACKOFF_STRATEGY = AdaptiveDelay.of()
+            .timeout(Duration.ofMinutes(30L))
+            .initialDelay(Duration.ofSeconds(5L))
+            .fastAttempts(3)
+            .maxDelay(Duration.ofSeconds(30L))
+            .build();
+
+    protected static Delay backoffStrategy(final StabilizeOperation operation) {
+        switch (operation) {
+            case CREATE:
+                return CREATE_BACKOFF_STRATEGY;
+            case UPDATE:
+                return UPDATE_BACKOFF_STRATEGY;
+            case UPDATE_TAGS:
+                return UPDATE_TAGS_BACKOFF_STRATEGY;
+            case DELETE:
+                return DELETE_BACKOFF_STRATEGY;
+            default:
+                throw new IllegalArgumentException("Unknown stabilize operation " + operation);
+        }
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        // Wrapped inside the rate limiter so the recorded latency excludes time spent waiting for a permit
+        final ApiMetrics metrics = new ApiMetrics(RESOURCE_TYPE, getClass().getSimpleName());
+        try {
+            return handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    ApiRateLimiter.forAccountAndRegion(SERVICE_NAME, request.getAwsAccountId(), request.getRegion())
+                            .wrap(metrics.wrap(proxy.newProxy(ClientBuilder::getClient))),
+                    logger
+            );
+        } finally {
+            metrics.log(logger);
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -64,11 +164,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 .build();
 
         try {
-            WorkgroupStatus workgroupStatus = proxyClient.injectCredentialsAndInvokeV2(getStatusRequest, proxyClient.client()::getWorkgroup)
-                    .workgroup()
-                    .status();
+            GetWorkgroupResponse getStatusResponse = proxyClient.injectCredentialsAndInvokeV2(getStatusRequest, proxyClient.client()::getWorkgroup);
+            WorkgroupStatus workgroupStatus = getStatusResponse.workgroup().status();
 
-            return workgroupStatus.equals(WorkgroupStatus.AVAILABLE) && !(awsRequest instanceof DeleteWorkgroupRequest);
+            boolean isStable = workgroupStatus.equals(WorkgroupStatus.AVAILABLE) && !(awsRequest instanceof DeleteWorkgroupRequest);
+            if (isStable) {
+                context.setStabilizedWorkgroupResponse(getStatusResponse);
+            }
+            return isStable;
 
         } catch (ResourceNotFoundException e) {
             if (awsRequest instanceof DeleteWorkgroupRequest) {
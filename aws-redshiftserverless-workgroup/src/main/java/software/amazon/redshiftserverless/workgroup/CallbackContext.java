@@ -1,5 +1,7 @@
 package software.amazon.redshiftserverless.workgroup;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -8,4 +10,24 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
     int retryOnResourceNotFound = 5;
+    int busyWorkgroupRetryAttempts = 0;
+
+    /*
+    Last GetWorkgroup response that reported the workgroup as stable during this invocation, so the final read
+    can reuse it. It is never serialized: a re-invoked handler starts without it and reads the workgroup again.
+     */
+    @lombok.Getter(lombok.AccessLevel.NONE)
+    @lombok.Setter(lombok.AccessLevel.NONE)
+    @lombok.ToString.Exclude
+    transient GetWorkgroupResponse stabilizedWorkgroupResponse;
+
+    @JsonIgnore
+    public GetWorkgroupResponse getStabilizedWorkgroupResponse() {
+        return stabilizedWorkgroupResponse;
+    }
+
+    @JsonIgnore
+    public void setStabilizedWorkgroupResponse(GetWorkgroupResponse stabilizedWorkgroupResponse) {
+        this.stabilizedWorkgroupResponse = stabilizedWorkgroupResponse;
+    }
 }
@@ -1,13 +1,25 @@
 package software.amazon.redshiftserverless.workgroup;
 
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.redshiftserverless.common.ClientCache;
 
+import java.net.URI;
+
+/**
+ * Hands out SDK clients that live for the lifetime of the container, see {@link ClientCache}.
+ */
 public class ClientBuilder {
 
+    private static final ClientCache<RedshiftServerlessClient> SERVERLESS_CLIENTS =
+            new ClientCache<>(() -> RedshiftServerlessClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT));
+
     public static RedshiftServerlessClient getClient() {
-        return RedshiftServerlessClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return getClient(null, null);
+    }
+
+    public static RedshiftServerlessClient getClient(final Region region, final URI endpointOverride) {
+        return SERVERLESS_CLIENTS.get(region, endpointOverride);
     }
 }
@@ -1,22 +1,14 @@
 package software.amazon.redshiftserverless.workgroup;
 
 import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
-import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
 import software.amazon.awssdk.services.redshiftserverless.model.CreateWorkgroupRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.CreateWorkgroupResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.InsufficientCapacityException;
-import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
-import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.redshiftserverless.model.TooManyTagsException;
-import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-
-import java.util.regex.Pattern;
+import software.amazon.redshiftserverless.common.ErrorClassifier;
 
 public class CreateHandler extends BaseHandlerStd {
     private Logger logger;
@@ -34,6 +26,7 @@ public class CreateHandler extends BaseHandlerStd {
                 .then(progress ->
                         proxy.initiate("AWS-RedshiftServerless-Workgroup::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
+                                .backoffDelay(backoffStrategy(StabilizeOperation.CREATE))
                                 .makeServiceCall(this::createWorkgroup)
                                 .stabilize(this::isWorkgroupStable)
                                 .handleError(this::createWorkgroupErrorHandler)
@@ -44,35 +37,12 @@ public class CreateHandler extends BaseHandlerStd {
 
     private CreateWorkgroupResponse createWorkgroup(final CreateWorkgroupRequest awsRequest,
                                                     final ProxyClient<RedshiftServerlessClient> proxyClient) {
-        final int MAX_RETRIES = 5;
-        int retryCount = 0;
-
-        while (true) {
-            try {
-                CreateWorkgroupResponse awsResponse =
-                        proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::createWorkgroup);
-
-                logger.log(String.format("%s has successfully been created.", ResourceModel.TYPE_NAME));
+        CreateWorkgroupResponse awsResponse =
+                proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::createWorkgroup);
 
-                return awsResponse;
+        logger.log(String.format("%s has successfully been created.", ResourceModel.TYPE_NAME));
 
-            } catch (ConflictException ex) {
-                if (retryCount >= MAX_RETRIES || !isRetriableWorkgroupException(ex)) {
-                    throw ex;
-                }
-
-                logger.log(String.format("Retrying CreateWorkgroup due to expected ConflictException: " +
-                        "%s. Attempt %d/%d", ex.getMessage(), retryCount + 1, MAX_RETRIES));
-                retryCount++;
-            }
-
-            try {
-                Thread.sleep(10000);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt(); // Restore the interrupted status
-                throw new RuntimeException("Interrupted during retry wait", ie);
-            }
-        }
+        return awsResponse;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createWorkgroupErrorHandler(final CreateWorkgroupRequest awsRequest,
@@ -80,27 +50,11 @@ public class CreateHandler extends BaseHandlerStd {
                                                                                       final ProxyClient<RedshiftServerlessClient> client,
                                                                                       final ResourceModel model,
                                                                                       final CallbackContext context) {
-        if (exception instanceof ValidationException ||
-                exception instanceof TooManyTagsException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
-
-        } else if (exception instanceof ResourceNotFoundException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
-
-        } else if (exception instanceof InternalServerException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InternalFailure);
-
-        } else if (exception instanceof ConflictException ||
-                exception instanceof InsufficientCapacityException) {
-            Pattern pattern = Pattern.compile(".*already exists.*", Pattern.CASE_INSENSITIVE);
-            HandlerErrorCode handlerErrorCode = pattern.matcher(exception.getMessage()).matches() ?
-                    HandlerErrorCode.AlreadyExists :
-                    HandlerErrorCode.ResourceConflict;
-
-            return ProgressEvent.defaultFailureHandler(exception, handlerErrorCode);
-
-        } else {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
+        ProgressEvent<ResourceModel, CallbackContext> retryEvent = retryOnBusyWorkgroup("CreateWorkgroup", exception, model, context, logger);
+        if (retryEvent != null) {
+            return retryEvent;
         }
+
+        return ErrorClassifier.failure(exception);
     }
 }
@@ -1,18 +1,14 @@
 package software.amazon.redshiftserverless.workgroup;
 
 import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
-import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
 import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
-import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.ErrorClassifier;
 
 public class DeleteHandler extends BaseHandlerStd {
     private Logger logger;
@@ -30,7 +26,7 @@ public class DeleteHandler extends BaseHandlerStd {
                 .then(progress ->
                         proxy.initiate("AWS-RedshiftServerless-Workgroup::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .backoffDelay(BACKOFF_STRATEGY)
+                                .backoffDelay(backoffStrategy(StabilizeOperation.DELETE))
                                 .makeServiceCall(this::deleteWorkgroup)
                                 .stabilize(this::isWorkgroupStable)
                                 .handleError(this::deleteWorkgroupErrorHandler)
@@ -54,20 +50,6 @@ public class DeleteHandler extends BaseHandlerStd {
                                                                                       final ProxyClient<RedshiftServerlessClient> client,
                                                                                       final ResourceModel model,
                                                                                       final CallbackContext context) {
-        if (exception instanceof ResourceNotFoundException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
-
-        } else if (exception instanceof InternalServerException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InternalFailure);
-
-        } else if (exception instanceof ConflictException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.ResourceConflict);
-
-        } else if (exception instanceof ValidationException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
-
-        } else {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
-        }
+        return ErrorClassifier.failure(exception);
     }
 }
@@ -1,6 +1,7 @@
 package software.amazon.redshiftserverless.workgroup;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
 import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
 import software.amazon.awssdk.services.redshiftserverless.model.ListWorkgroupsRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListWorkgroupsResponse;
@@ -12,11 +13,14 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-
-import java.util.List;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+import software.amazon.redshiftserverless.common.ApiRateLimiter;
+import software.amazon.redshiftserverless.common.ListPager;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
+    private final ListPager pager = new ListPager();
     private Logger logger;
 
     @Override
@@ -27,22 +31,31 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final Logger logger) {
 
         this.logger = logger;
-        ListWorkgroupsRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
-        ListWorkgroupsResponse awsResponse = listWorkgroups(awsRequest, proxy);
-        List<ResourceModel> models = Translator.translateFromListResponse(awsResponse);
-
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(models)
-                .nextToken(awsResponse.nextToken())
-                .status(OperationStatus.SUCCESS)
-                .build();
+        // Wrapped inside the rate limiter so the recorded latency excludes time spent waiting for a permit
+        final ApiMetrics metrics = new ApiMetrics(BaseHandlerStd.RESOURCE_TYPE, getClass().getSimpleName());
+        final ProxyClient<RedshiftServerlessClient> proxyClient = ApiRateLimiter.forAccountAndRegion(BaseHandlerStd.SERVICE_NAME,
+                request.getAwsAccountId(), request.getRegion()).wrap(metrics.wrap(proxy.newProxy(ClientBuilder::getClient)));
+        try {
+            final ListPager.Result<ResourceModel> result = pager.list(request.getNextToken(), request.getMaxResults(),
+                    (nextToken, pageSize) -> listWorkgroups(Translator.translateToListRequest(nextToken, pageSize), proxyClient),
+                    Translator::translateFromListResponse,
+                    ListWorkgroupsResponse::nextToken);
+
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .resourceModels(result.getModels())
+                    .nextToken(result.getNextToken())
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        } finally {
+            metrics.log(logger);
+        }
     }
 
     private ListWorkgroupsResponse listWorkgroups(final ListWorkgroupsRequest awsRequest,
-                                                  final AmazonWebServicesClientProxy proxy) {
+                                                  final ProxyClient<RedshiftServerlessClient> proxyClient) {
         ListWorkgroupsResponse awsResponse;
         try {
-            awsResponse = proxy.injectCredentialsAndInvokeV2(awsRequest, ClientBuilder.getClient()::listWorkgroups);
+            awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listWorkgroups);
 
         } catch (final ValidationException e) {
             throw new CfnInvalidRequestException(e);
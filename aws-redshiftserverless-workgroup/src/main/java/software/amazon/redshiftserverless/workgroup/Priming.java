@@ -0,0 +1,210 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.Endpoint;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.Workgroup;
+import software.amazon.awssdk.services.redshiftserverless.model.WorkgroupStatus;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+/**
+ * SnapStart checkpoint hook. Before the snapshot is taken it runs the code every first invocation would otherwise
+ * pay for: building the SDK client, the Translator paths, JSON (de)serialization of the model and callback context,
+ * and a read through the handler chain on both its success and exception paths. Service calls are answered with
+ * canned responses, nothing goes over the network and no credentials are needed.
+ */
+public class Priming implements Resource {
+    private static final Priming INSTANCE = new Priming();
+    private static final Logger LOGGER = System.out::println;
+    private static final Region PRIMING_REGION = Region.US_EAST_1;
+    private static final String WORKGROUP_NAME = "priming";
+    private static final String WORKGROUP_ARN =
+            "arn:aws:redshift-serverless:us-east-1:123456789012:workgroup/00000000-0000-0000-0000-000000000000";
+    private static final TypeReference<ResourceModel> RESOURCE_MODEL_TYPE = new TypeReference<ResourceModel>() { };
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT_TYPE = new TypeReference<CallbackContext>() { };
+
+    /**
+     * The global context only keeps weak references, the static instance keeps the hook alive.
+     */
+    static void register() {
+        Core.getGlobalContext().register(INSTANCE);
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        prime(LOGGER);
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+    }
+
+    /**
+     * Runs every priming step. A failing step is logged and skipped, priming must never fail the checkpoint.
+     *
+     * @return true when every step completed
+     */
+    static boolean prime(final Logger logger) {
+        boolean primed = step("client", Priming::serverlessClient, logger);
+        primed &= step("translator", Priming::primeTranslator, logger);
+        primed &= step("serializer", Priming::primeSerializer, logger);
+        primed &= step("read handler", Priming::primeReadHandler, logger);
+        return primed;
+    }
+
+    private static boolean step(final String name, final Runnable step, final Logger logger) {
+        try {
+            step.run();
+            return true;
+        } catch (RuntimeException e) {
+            logger.log(String.format("Priming step %s failed: %s", name, e));
+            return false;
+        }
+    }
+
+    /**
+     * The client the handlers use. Lambda always sets AWS_REGION; without it the default chain would fall back to
+     * instance metadata, so the client is built for a fixed region instead and the same classes still get loaded.
+     */
+    private static RedshiftServerlessClient serverlessClient() {
+        return SdkSystemSetting.AWS_REGION.getStringValue().isPresent()
+                ? ClientBuilder.getClient()
+                : ClientBuilder.getClient(PRIMING_REGION, null);
+    }
+
+    private static void primeTranslator() {
+        final ResourceModel previous = resourceModel();
+        final ResourceModel desired = resourceModel();
+        desired.setMaxCapacity(256);
+        desired.setTags(Collections.singletonList(Tag.builder().key("team").value("platform").build()));
+        Translator.translateToCreateRequest(desired);
+        Translator.translateToUpdateRequest(UpdateHandler.getUpdatableResourceModel(desired, previous));
+        Translator.translateToUpdateTagsRequest(desired, Translator.translateFromReadResponse(getWorkgroupResponse()));
+        Translator.translateToDeleteRequest(desired);
+        Translator.translateToListRequest(null, null);
+    }
+
+    private static void primeSerializer() {
+        final Serializer serializer = new Serializer();
+        try {
+            serializer.deserialize(serializer.serialize(Translator.translateFromReadResponse(getWorkgroupResponse())), RESOURCE_MODEL_TYPE);
+            serializer.deserialize(serializer.serialize(new CallbackContext()), CALLBACK_CONTEXT_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads an existing and a missing workgroup, then round-trips the callback context holding the cached response
+     * the way it is handed back to CloudFormation between invocations.
+     */
+    private static void primeReadHandler() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("priming", "priming", "priming"), () -> 0L);
+        final RedshiftServerlessClient client = serverlessClient();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(resourceModel())
+                .awsAccountId("123456789012")
+                .region(PRIMING_REGION.id())
+                .build();
+        final Logger discard = message -> { };
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> found = new ReadHandler().handleRequest(proxy, request, callbackContext,
+                cannedProxyClient(client, awsRequest -> getWorkgroupResponse()), discard);
+        new ReadHandler().handleRequest(proxy, request, new CallbackContext(),
+                cannedProxyClient(client, awsRequest -> {
+                    throw ResourceNotFoundException.builder().message("Workgroup " + WORKGROUP_NAME + " not found").build();
+                }), discard);
+
+        final Serializer serializer = new Serializer();
+        try {
+            serializer.deserialize(serializer.serialize(callbackContext), CALLBACK_CONTEXT_TYPE);
+            serializer.serialize(found);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        new ApiMetrics(BaseHandlerStd.RESOURCE_TYPE, ReadHandler.class.getSimpleName()).toEmfJson();
+    }
+
+    /**
+     * Answers every call from the responder and never invokes the SDK, so the request function is ignored.
+     */
+    private static ProxyClient<RedshiftServerlessClient> cannedProxyClient(final RedshiftServerlessClient client,
+                                                                         final Function<AwsRequest, AwsResponse> responder) {
+        return new ProxyClient<RedshiftServerlessClient>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return (ResponseT) responder.apply(request);
+            }
+
+            @Override
+            public RedshiftServerlessClient client() {
+                return client;
+            }
+        };
+    }
+
+    private static ResourceModel resourceModel() {
+        return ResourceModel.builder()
+                .workgroupName(WORKGROUP_NAME)
+                .namespaceName(WORKGROUP_NAME)
+                .baseCapacity(32)
+                .maxCapacity(128)
+                .publiclyAccessible(false)
+                .subnetIds(Arrays.asList("subnet-00000000000000001", "subnet-00000000000000002"))
+                .securityGroupIds(Collections.singletonList("sg-00000000000000001"))
+                .configParameters(Collections.singleton(ConfigParameter.builder()
+                        .parameterKey("enable_user_activity_logging").parameterValue("true").build()))
+                .port(5439)
+                .build();
+    }
+
+    private static GetWorkgroupResponse getWorkgroupResponse() {
+        return GetWorkgroupResponse.builder()
+                .workgroup(Workgroup.builder()
+                        .workgroupName(WORKGROUP_NAME)
+                        .workgroupArn(WORKGROUP_ARN)
+                        .workgroupId("00000000-0000-0000-0000-000000000000")
+                        .namespaceName(WORKGROUP_NAME)
+                        .baseCapacity(32)
+                        .maxCapacity(128)
+                        .enhancedVpcRouting(false)
+                        .publiclyAccessible(false)
+                        .subnetIds("subnet-00000000000000001", "subnet-00000000000000002")
+                        .securityGroupIds("sg-00000000000000001")
+                        .configParameters(software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter.builder()
+                                .parameterKey("enable_user_activity_logging").parameterValue("true").build())
+                        .endpoint(Endpoint.builder().address(WORKGROUP_NAME + ".redshift-serverless.amazonaws.com").port(5439).build())
+                        .status(WorkgroupStatus.AVAILABLE)
+                        .creationDate(Instant.EPOCH)
+                        .build())
+                .build();
+    }
+}
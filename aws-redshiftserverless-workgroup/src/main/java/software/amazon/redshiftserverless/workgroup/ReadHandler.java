@@ -3,20 +3,18 @@ package software.amazon.redshiftserverless.workgroup;
 import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
 import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
-import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
 import software.amazon.awssdk.services.redshiftserverless.model.WorkgroupStatus;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.ErrorClassifier;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import static software.amazon.cloudformation.proxy.ProgressEvent.progress;
 
@@ -34,13 +32,23 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("AWS-RedshiftServerless-Workgroup::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall(this::readWorkgroup)
+                .makeServiceCall((awsRequest, client) -> readWorkgroup(awsRequest, client, callbackContext))
                 .handleError(this::readWorkgroupErrorHandler)
                 .done(awsResponse -> getProgressEventFromReadWorkgroupResponse(awsResponse, callbackContext));
     }
 
     private GetWorkgroupResponse readWorkgroup(final GetWorkgroupRequest awsRequest,
-                                               final ProxyClient<RedshiftServerlessClient> proxyClient) {
+                                               final ProxyClient<RedshiftServerlessClient> proxyClient,
+                                               final CallbackContext callbackContext) {
+        // Create/Update end with a read right after stabilizing, reuse what the stabilizer just fetched
+        GetWorkgroupResponse stabilizedResponse = callbackContext.getStabilizedWorkgroupResponse();
+        if (stabilizedResponse != null &&
+                Objects.equals(stabilizedResponse.workgroup().workgroupName(), awsRequest.workgroupName())) {
+            callbackContext.setStabilizedWorkgroupResponse(null);
+            logger.log(String.format("%s has been read during stabilization.", ResourceModel.TYPE_NAME));
+            return stabilizedResponse;
+        }
+
         GetWorkgroupResponse awsResponse;
             awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::getWorkgroup);
 
@@ -82,14 +90,6 @@ public class ReadHandler extends BaseHandlerStd {
                                                                                     final ProxyClient<RedshiftServerlessClient> client,
                                                                                     final ResourceModel model,
                                                                                     final CallbackContext context) {
-        if (exception instanceof ResourceNotFoundException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
-        } else if (exception instanceof ValidationException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
-        } else if (exception instanceof InternalServerException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InternalFailure);
-        } else {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
-        }
+        return ErrorClassifier.failure(exception);
     }
 }
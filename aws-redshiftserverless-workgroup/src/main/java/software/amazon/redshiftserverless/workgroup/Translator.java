@@ -1,7 +1,5 @@
 package software.amazon.redshiftserverless.workgroup;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import software.amazon.awssdk.services.redshiftserverless.model.CreateWorkgroupRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequest;
@@ -14,9 +12,13 @@ import software.amazon.awssdk.services.redshiftserverless.model.TagResourceReque
 import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateWorkgroupRequest;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -29,8 +31,6 @@ import java.util.stream.Collectors;
  */
 
 public class Translator {
-    private static final Gson GSON = new GsonBuilder().create();
-
     /**
      * Request to create a resource
      *
@@ -138,11 +138,13 @@ public class Translator {
      * Request to list resources
      *
      * @param nextToken token passed to the aws service list resources request
+     * @param maxResults maximum number of resources the service returns per page
      * @return awsRequest the aws service request to list resources within aws account
      */
-    static ListWorkgroupsRequest translateToListRequest(final String nextToken) {
+    static ListWorkgroupsRequest translateToListRequest(final String nextToken, final Integer maxResults) {
         return ListWorkgroupsRequest.builder()
                 .nextToken(nextToken)
+                .maxResults(maxResults)
                 .build();
     }
 
@@ -188,7 +190,8 @@ public class Translator {
     }
 
     /**
-     * Request to update tags for a resource
+     * Request to update tags for a resource. Tags are diffed by key: a key whose value changed is only re-tagged,
+     * and only keys missing from the desired tags are untagged.
      *
      * @param desiredResourceState the resource model request to update tags
      * @param currentResourceState the resource model request to delete tags
@@ -198,33 +201,44 @@ public class Translator {
                                                           final ResourceModel currentResourceState) {
         String resourceArn = currentResourceState.getWorkgroup().getWorkgroupArn();
 
-        List<Tag> toBeCreatedTags = desiredResourceState.getTags() == null ? Collections.emptyList() : desiredResourceState.getTags()
-                .stream()
-                .filter(tag -> currentResourceState.getTags() == null || !currentResourceState.getTags().contains(tag))
-                .collect(Collectors.toList());
+        final List<Tag> desiredTags = desiredResourceState.getTags() == null ? Collections.emptyList() : desiredResourceState.getTags();
+        final List<Tag> currentTags = currentResourceState.getTags() == null ? Collections.emptyList() : currentResourceState.getTags();
 
-        List<Tag> toBeDeletedTags = currentResourceState.getTags() == null ? Collections.emptyList() : currentResourceState.getTags()
-                .stream()
-                .filter(tag -> desiredResourceState.getTags() == null || !desiredResourceState.getTags().contains(tag))
-                .collect(Collectors.toList());
+        final Map<String, String> currentValues = new HashMap<>(currentTags.size() * 4 / 3 + 1);
+        for (final Tag tag : currentTags) {
+            currentValues.put(tag.getKey(), tag.getValue());
+        }
+        // Keys still in here once the desired tags are walked are the ones to untag
+        final Set<String> toBeDeletedKeys = new LinkedHashSet<>(currentValues.size() * 4 / 3 + 1);
+        for (final Tag tag : currentTags) {
+            toBeDeletedKeys.add(tag.getKey());
+        }
+
+        final List<software.amazon.awssdk.services.redshiftserverless.model.Tag> toBeCreatedTags = new ArrayList<>();
+        for (final Tag tag : desiredTags) {
+            if (!currentValues.containsKey(tag.getKey()) || !Objects.equals(currentValues.get(tag.getKey()), tag.getValue())) {
+                toBeCreatedTags.add(translateToSdkTag(tag));
+            }
+            toBeDeletedKeys.remove(tag.getKey());
+        }
 
         return UpdateTagsRequest.builder()
                 .createNewTagsRequest(TagResourceRequest.builder()
-                        .tags(translateToSdkTags(toBeCreatedTags))
+                        .tags(toBeCreatedTags)
                         .resourceArn(resourceArn)
                         .build())
                 .deleteOldTagsRequest(UntagResourceRequest.builder()
-                        .tagKeys(toBeDeletedTags
-                                .stream()
-                                .map(Tag::getKey)
-                                .collect(Collectors.toList()))
+                        .tagKeys(new ArrayList<>(toBeDeletedKeys))
                         .resourceArn(resourceArn)
                         .build())
                 .build();
     }
 
-    private static software.amazon.awssdk.services.redshiftserverless.model.Tag translateToSdkTag(Tag tag) {
-        return GSON.fromJson(GSON.toJson(tag), software.amazon.awssdk.services.redshiftserverless.model.Tag.class);
+    static software.amazon.awssdk.services.redshiftserverless.model.Tag translateToSdkTag(Tag tag) {
+        return tag == null ? null : software.amazon.awssdk.services.redshiftserverless.model.Tag.builder()
+                .key(tag.getKey())
+                .value(tag.getValue())
+                .build();
     }
 
     private static List<software.amazon.awssdk.services.redshiftserverless.model.Tag> translateToSdkTags(final List<Tag> tags) {
@@ -234,8 +248,11 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
-    private static Tag translateToModelTag(software.amazon.awssdk.services.redshiftserverless.model.Tag tag) {
-        return GSON.fromJson(GSON.toJson(tag), Tag.class);
+    static Tag translateToModelTag(software.amazon.awssdk.services.redshiftserverless.model.Tag tag) {
+        return tag == null ? null : Tag.builder()
+                .key(tag.key())
+                .value(tag.value())
+                .build();
     }
 
     private static List<Tag> translateToModelTags(Collection<software.amazon.awssdk.services.redshiftserverless.model.Tag> tags) {
@@ -245,8 +262,11 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
-    private static software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter translateToSdkConfigParameter(ConfigParameter configParameter) {
-        return GSON.fromJson(GSON.toJson(configParameter), software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter.class);
+    static software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter translateToSdkConfigParameter(ConfigParameter configParameter) {
+        return configParameter == null ? null : software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter.builder()
+                .parameterKey(configParameter.getParameterKey())
+                .parameterValue(configParameter.getParameterValue())
+                .build();
     }
 
     private static List<software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter> translateToSdkConfigParameters(Collection<ConfigParameter> configParameters) {
@@ -256,8 +276,11 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
-    private static ConfigParameter translateToModelConfigParameter(software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter configParameter) {
-        return GSON.fromJson(GSON.toJson(configParameter), ConfigParameter.class);
+    static ConfigParameter translateToModelConfigParameter(software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter configParameter) {
+        return configParameter == null ? null : ConfigParameter.builder()
+                .parameterKey(configParameter.parameterKey())
+                .parameterValue(configParameter.parameterValue())
+                .build();
     }
 
     private static Set<ConfigParameter> translateToModelConfigParameters(Collection<software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter> configParameters) {
@@ -267,7 +290,38 @@ public class Translator {
                 .collect(Collectors.toSet());
     }
 
-    private static Endpoint translateToModelEndpoint(software.amazon.awssdk.services.redshiftserverless.model.Endpoint endpoint) {
-        return GSON.fromJson(GSON.toJson(endpoint), Endpoint.class);
+    /**
+     * SDK list members are never null (an absent list is an empty auto-construct list), so the nested
+     * lists always come back as a list, matching what the resource model has always exposed.
+     */
+    static Endpoint translateToModelEndpoint(software.amazon.awssdk.services.redshiftserverless.model.Endpoint endpoint) {
+        return endpoint == null ? null : Endpoint.builder()
+                .address(endpoint.address())
+                .port(endpoint.port())
+                .vpcEndpoints(endpoint.vpcEndpoints() == null ? null : endpoint.vpcEndpoints()
+                        .stream()
+                        .map(Translator::translateToModelVpcEndpoint)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static VpcEndpoint translateToModelVpcEndpoint(software.amazon.awssdk.services.redshiftserverless.model.VpcEndpoint vpcEndpoint) {
+        return vpcEndpoint == null ? null : VpcEndpoint.builder()
+                .vpcEndpointId(vpcEndpoint.vpcEndpointId())
+                .vpcId(vpcEndpoint.vpcId())
+                .networkInterfaces(vpcEndpoint.networkInterfaces() == null ? null : vpcEndpoint.networkInterfaces()
+                        .stream()
+                        .map(Translator::translateToModelNetworkInterface)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static NetworkInterface translateToModelNetworkInterface(software.amazon.awssdk.services.redshiftserverless.model.NetworkInterface networkInterface) {
+        return networkInterface == null ? null : NetworkInterface.builder()
+                .networkInterfaceId(networkInterface.networkInterfaceId())
+                .subnetId(networkInterface.subnetId())
+                .privateIpAddress(networkInterface.privateIpAddress())
+                .availabilityZone(networkInterface.availabilityZone())
+                .build();
     }
 }
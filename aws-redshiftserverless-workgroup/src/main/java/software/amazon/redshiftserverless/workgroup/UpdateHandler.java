@@ -2,33 +2,27 @@ package software.amazon.redshiftserverless.workgroup;
 
 import org.apache.commons.collections4.CollectionUtils;
 import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
-import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
 import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.InsufficientCapacityException;
-import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
 import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.redshiftserverless.model.TagResourceResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
-import software.amazon.awssdk.services.redshiftserverless.model.TooManyTagsException;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateWorkgroupRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateWorkgroupResponse;
-import software.amazon.awssdk.services.redshiftserverless.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.ErrorClassifier;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 public class UpdateHandler extends BaseHandlerStd {
     private Logger logger;
@@ -67,29 +61,42 @@ public class UpdateHandler extends BaseHandlerStd {
                                         .status(OperationStatus.IN_PROGRESS)
                                         .build()))
 
-                .then(progress ->
-                        proxy.initiate("AWS-RedshiftServerless-Workgroup::Update::UpdateTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel -> Translator.translateToUpdateTagsRequest(request.getDesiredResourceState(), resourceModel))
-                                .backoffDelay(BACKOFF_STRATEGY)
-                                .makeServiceCall(this::updateTags)
-                                .stabilize(this::isWorkgroupStable)
-                                .handleError(this::operateTagsErrorHandler)
-                                .progress())
-
-                .then(progress ->
-                        proxy.initiate("AWS-RedshiftServerless-Workgroup::Update::UpdateInstance", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                                .backoffDelay(BACKOFF_STRATEGY)
-                                .makeServiceCall(this::updateWorkgroup)
-                                .stabilize(this::isWorkgroupStable)
-                                .handleError(this::updateWorkgroupErrorHandler)
-                                .progress())
+                .then(progress -> {
+                    // Unchanged tags need neither the calls nor the GetWorkgroup poll that follows them
+                    final UpdateTagsRequest updateTagsRequest = Translator.translateToUpdateTagsRequest(request.getDesiredResourceState(), progress.getResourceModel());
+                    if (updateTagsRequest.isEmpty()) {
+                        logger.log(String.format("%s has no tags to update.", ResourceModel.TYPE_NAME));
+                        return progress;
+                    }
+                    return proxy.initiate("AWS-RedshiftServerless-Workgroup::Update::UpdateTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                            .translateToServiceRequest(resourceModel -> updateTagsRequest)
+                            .backoffDelay(backoffStrategy(StabilizeOperation.UPDATE_TAGS))
+                            .makeServiceCall(this::updateTags)
+                            .stabilize(this::isWorkgroupStable)
+                            .handleError(this::operateTagsErrorHandler)
+                            .progress();
+                })
+
+                .then(progress -> {
+                    // A tag-only change leaves nothing for UpdateWorkgroup, skip the call and its stabilization
+                    if (isEmptyDelta(progress.getResourceModel())) {
+                        logger.log(String.format("%s has no workgroup properties to update.", ResourceModel.TYPE_NAME));
+                        return progress;
+                    }
+                    return proxy.initiate("AWS-RedshiftServerless-Workgroup::Update::UpdateInstance", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                            .translateToServiceRequest(Translator::translateToUpdateRequest)
+                            .backoffDelay(backoffStrategy(StabilizeOperation.UPDATE))
+                            .makeServiceCall(this::updateWorkgroup)
+                            .stabilize(this::isWorkgroupStable)
+                            .handleError(this::updateWorkgroupErrorHandler)
+                            .progress();
+                })
 
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     @SuppressWarnings("unchecked")
-    private ResourceModel getUpdatableResourceModel(ResourceModel desiredModel, ResourceModel previousModel) {
+    static ResourceModel getUpdatableResourceModel(ResourceModel desiredModel, ResourceModel previousModel) {
         BiFunction<Object, Object, Object> getDelta = (desired, previous) -> {
             if (desired instanceof Set && previous instanceof Set) {
                 return ((Set<Object>) previous).containsAll((Set<Object>) desired) ? null : desired;
@@ -113,6 +120,22 @@ public class UpdateHandler extends BaseHandlerStd {
                 .build();
     }
 
+    /**
+     * True when getUpdatableResourceModel nulled out every property UpdateWorkgroup would send.
+     */
+    static boolean isEmptyDelta(ResourceModel updatableModel) {
+        return Stream.of(
+                updatableModel.getBaseCapacity(),
+                updatableModel.getMaxCapacity(),
+                updatableModel.getEnhancedVpcRouting(),
+                updatableModel.getConfigParameters(),
+                updatableModel.getPubliclyAccessible(),
+                updatableModel.getSubnetIds(),
+                updatableModel.getSecurityGroupIds(),
+                updatableModel.getPort())
+                .allMatch(Objects::isNull);
+    }
+
     private GetWorkgroupResponse readWorkgroup(final GetWorkgroupRequest awsRequest,
                                                final ProxyClient<RedshiftServerlessClient> proxyClient) {
         GetWorkgroupResponse awsResponse;
@@ -159,55 +182,17 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                                   final ProxyClient<RedshiftServerlessClient> client,
                                                                                   final ResourceModel model,
                                                                                   final CallbackContext context) {
-        if (exception instanceof ResourceNotFoundException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
-
-        } else if (exception instanceof ValidationException ||
-                exception instanceof TooManyTagsException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
-
-        } else if (exception instanceof ThrottlingException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.Throttling);
-
-        } else if (exception instanceof InternalServerException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InternalFailure);
-
-        } else {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
-        }
+        return ErrorClassifier.failure(exception);
     }
 
     private UpdateWorkgroupResponse updateWorkgroup(final UpdateWorkgroupRequest awsRequest,
                                                     final ProxyClient<RedshiftServerlessClient> proxyClient) {
-        final int MAX_RETRIES = 5;
-        int retryCount = 0;
-
-        while (true) {
-            try {
-                UpdateWorkgroupResponse awsResponse =
-                        proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::updateWorkgroup);
+        UpdateWorkgroupResponse awsResponse =
+                proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::updateWorkgroup);
 
-                logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
-
-                return awsResponse;
-            } catch (ConflictException ex) {
-                if (retryCount >= MAX_RETRIES || !isRetriableWorkgroupException(ex)) {
-                    throw ex;
-                }
-
-                logger.log(String.format("Retrying UpdateWorkgroup due to expected ConflictException: " +
-                        "%s. Attempt %d/%d", ex.getMessage(), retryCount + 1, MAX_RETRIES));
-                retryCount++;
-            }
-
-            try {
-                Thread.sleep(10000);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt(); // Restore the interrupted status
-                throw new RuntimeException("Interrupted during retry wait", ie);
-            }
-        }
+        logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
 
+        return awsResponse;
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> updateWorkgroupErrorHandler(final UpdateWorkgroupRequest awsRequest,
@@ -215,21 +200,11 @@ public class UpdateHandler extends BaseHandlerStd {
                                                                                       final ProxyClient<RedshiftServerlessClient> client,
                                                                                       final ResourceModel model,
                                                                                       final CallbackContext context) {
-        if (exception instanceof ResourceNotFoundException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
-
-        } else if (exception instanceof ValidationException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InvalidRequest);
-
-        } else if (exception instanceof InternalServerException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.InternalFailure);
-
-        } else if (exception instanceof ConflictException ||
-                exception instanceof InsufficientCapacityException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.ResourceConflict);
-
-        } else {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
+        ProgressEvent<ResourceModel, CallbackContext> retryEvent = retryOnBusyWorkgroup("UpdateWorkgroup", exception, model, context, logger);
+        if (retryEvent != null) {
+            return retryEvent;
         }
+
+        return ErrorClassifier.failure(exception);
     }
 }
@@ -14,4 +14,12 @@ import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceReq
 public class UpdateTagsRequest {
     private TagResourceRequest createNewTagsRequest;
     private UntagResourceRequest deleteOldTagsRequest;
+
+    /**
+     * True when the desired tags already match the current ones, so neither TagResource nor UntagResource is needed.
+     */
+    public boolean isEmpty() {
+        return (createNewTagsRequest == null || !createNewTagsRequest.hasTags() || createNewTagsRequest.tags().isEmpty())
+                && (deleteOldTagsRequest == null || !deleteOldTagsRequest.hasTagKeys() || deleteOldTagsRequest.tagKeys().isEmpty());
+    }
 }
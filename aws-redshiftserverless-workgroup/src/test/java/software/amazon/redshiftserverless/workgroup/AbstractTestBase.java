@@ -1,5 +1,6 @@
 package software.amazon.redshiftserverless.workgroup;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
@@ -16,6 +17,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.redshiftserverless.common.HandlerSimulator;
 
 import java.util.Collections;
 import java.util.List;
@@ -104,6 +106,16 @@ public class AbstractTestBase {
         };
     }
 
+    /**
+     * Drives the handlers against the fake on its simulated clock, see {@link HandlerSimulator}.
+     */
+    static HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulator(final FakeRedshiftServerlessClient sdkClient) {
+        return new HandlerSimulator<>(CallbackContext::new, new TypeReference<CallbackContext>() { },
+                (handler, proxy, request, callbackContext, handlerLogger) ->
+                        handler.handleRequest(proxy, request, callbackContext, MOCK_PROXY(proxy, sdkClient), handlerLogger),
+                sdkClient.getBehavior());
+    }
+
     public static ResourceModel getReadRequestResourceModel() {
         return ResourceModel.builder().
                 workgroupName(WORKGROUP_NAME).
@@ -213,7 +225,9 @@ public class AbstractTestBase {
     }
 
     public static ResourceModel updateRequestResourceModel() {
-        return createRequestResourceModel();
+        return createRequestResourceModel().toBuilder()
+                .maxCapacity(UPDATED_MAX_CAPACITY)
+                .build();
     }
 
     public static UpdateWorkgroupResponse updateResponseSdk() {
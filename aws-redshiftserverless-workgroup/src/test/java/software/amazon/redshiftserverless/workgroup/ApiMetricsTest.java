@@ -0,0 +1,96 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.ApiMetrics;
+import software.amazon.redshiftserverless.common.FakeClock;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+public class ApiMetricsTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void wrap_RecordsCallsLatencyErrorsAndThrottles() {
+        final FakeClock clock = FakeClock.simulated();
+        final ApiMetrics metrics = new ApiMetrics(BaseHandlerStd.RESOURCE_TYPE, "UpdateHandler",
+                () -> TimeUnit.MILLISECONDS.toNanos(clock.millis()));
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ProxyClient<RedshiftServerlessClient> proxyClient = metrics.wrap(MOCK_PROXY(proxy, FakeRedshiftServerlessClient.builder()
+                .behavior(FakeServiceBehavior.builder().clock(clock).latency(Duration.ofMillis(120)).build())
+                .build()));
+        final ProxyClient<RedshiftServerlessClient> throttledClient = metrics.wrap(MOCK_PROXY(proxy, FakeRedshiftServerlessClient.builder()
+                .behavior(FakeServiceBehavior.builder().clock(clock).latency(Duration.ofSeconds(3)).throttleRate(1.0).build())
+                .build()));
+
+        assertThrows(ResourceNotFoundException.class, () -> proxyClient.injectCredentialsAndInvokeV2(
+                GetWorkgroupRequest.builder().workgroupName("wg").build(), proxyClient.client()::getWorkgroup));
+        proxyClient.injectCredentialsAndInvokeV2(CreateWorkgroupRequest.builder().workgroupName("wg").namespaceName("ns").build(),
+                proxyClient.client()::createWorkgroup);
+        proxyClient.injectCredentialsAndInvokeV2(GetWorkgroupRequest.builder().workgroupName("wg").build(),
+                proxyClient.client()::getWorkgroup);
+        assertThrows(ThrottlingException.class, () -> throttledClient.injectCredentialsAndInvokeV2(
+                GetWorkgroupRequest.builder().workgroupName("wg").build(), throttledClient.client()::getWorkgroup));
+
+        final Map<String, Object> emf = metrics.toEmf(0L);
+        assertThat(emf).containsEntry("ResourceType", "AWS::RedshiftServerless::Workgroup")
+                .containsEntry("Handler", "UpdateHandler")
+                .containsEntry("GetWorkgroup.Calls", 3)
+                .containsEntry("GetWorkgroup.Errors", 2)
+                .containsEntry("GetWorkgroup.Throttles", 1)
+                .containsEntry("CreateWorkgroup.Calls", 1)
+                .containsEntry("CreateWorkgroup.Errors", 0);
+        assertThat(emf.get("GetWorkgroup.Latency")).asList().containsExactly(120L, 120L, 3000L);
+        assertThat(emf.get("LatencyHistogram")).asString().contains("GetWorkgroup={<=250=2, <=5000=1}");
+        assertThat(emf.get("ErrorClasses")).asString()
+                .contains("GetWorkgroup={ResourceNotFoundException=1, ThrottlingException=1}")
+                .doesNotContain("CreateWorkgroup");
+    }
+
+    @Test
+    public void handleRequest_LogsOneSummaryPerInvocation() throws Exception {
+        final List<String> lines = new ArrayList<>();
+        final AmazonWebServicesClientProxy proxy =
+                spy(new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis()));
+        final FakeRedshiftServerlessClient sdkClient = FakeRedshiftServerlessClient.builder().build();
+        sdkClient.createWorkgroup(CreateWorkgroupRequest.builder().workgroupName(getReadRequestResourceModel().getWorkgroupName())
+                .namespaceName("ns").build());
+        doReturn(MOCK_PROXY(proxy, sdkClient)).when(proxy).newProxy(any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getReadRequestResourceModel())
+                .awsAccountId("123456789012")
+                .region(AWS_REGION)
+                .build();
+        assertThat(new ReadHandler().handleRequest(proxy, request, null, lines::add).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final List<String> summaries = lines.stream().filter(line -> line.startsWith("{\"_aws\"")).collect(Collectors.toList());
+        assertThat(summaries).hasSize(1);
+        final JsonNode emf = MAPPER.readTree(summaries.get(0));
+        assertThat(emf.get("Handler").asText()).isEqualTo("ReadHandler");
+        assertThat(emf.get("GetWorkgroup.Calls").asInt()).isEqualTo(sdkClient.getBehavior().callCount("GetWorkgroup"));
+    }
+}
@@ -0,0 +1,99 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.ApiRateLimiter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * The limiter itself is covered in the common module; this checks that concurrent handlers share its budget.
+ */
+public class ApiRateLimiterTest extends AbstractTestBase {
+
+    @Test
+    public void handleRequest_ConcurrentHandlersStayWithinReadBudget() throws Exception {
+        final int handlers = 40;
+        final Queue<Long> callTimes = new ConcurrentLinkedQueue<>();
+        final AmazonWebServicesClientProxy proxy =
+                spy(new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis()));
+        doReturn(recordingProxyClient(callTimes)).when(proxy).newProxy(any());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getReadRequestResourceModel())
+                .awsAccountId(UUID.randomUUID().toString())
+                .region(AWS_REGION)
+                .build();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(handlers);
+        final long start = System.nanoTime();
+        try {
+            final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+            for (int i = 0; i < handlers; i++) {
+                responses.add(executor.submit(() -> new ReadHandler().handleRequest(proxy, request, null, logger)));
+            }
+            for (final Future<ProgressEvent<ResourceModel, CallbackContext>> response : responses) {
+                assertThat(response.get(30, TimeUnit.SECONDS).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(callTimes).hasSize(handlers);
+        assertWithinBudget(callTimes, start, ApiRateLimiter.READ_BURST, ApiRateLimiter.READ_PERMITS_PER_SECOND);
+    }
+
+    /**
+     * A token bucket that starts full admits at most burst + rate * elapsed calls by any point in time.
+     */
+    private static void assertWithinBudget(final Queue<Long> callTimes, final long start, final int burst, final double permitsPerSecond) {
+        final List<Long> sorted = new ArrayList<>(callTimes);
+        Collections.sort(sorted);
+        for (int i = 0; i < sorted.size(); i++) {
+            final double elapsedSeconds = (sorted.get(i) - start) / (double) TimeUnit.SECONDS.toNanos(1L);
+            assertThat((double) i + 1).isLessThanOrEqualTo(burst + permitsPerSecond * elapsedSeconds + 1);
+        }
+    }
+
+    private static ProxyClient<RedshiftServerlessClient> recordingProxyClient(final Queue<Long> callTimes) {
+        final RedshiftServerlessClient client = mock(RedshiftServerlessClient.class);
+        return new ProxyClient<RedshiftServerlessClient>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                callTimes.add(System.nanoTime());
+                return (ResponseT) getReadResponseSdk();
+            }
+
+            @Override
+            public RedshiftServerlessClient client() {
+                return client;
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the stabilize loop of the call chain against a workgroup that becomes AVAILABLE after a fixed time:
+ * one GetWorkgroup right after the mutating call, then one per delay returned by the strategy.
+ * Compares each per-operation strategy with the previous constant 5 second polling: long operations need fewer
+ * GetWorkgroup calls for a bounded extra latency, while tag updates finish no later.
+ */
+public class BackoffStrategySimulationTest {
+
+    private static final Delay CONSTANT_BACKOFF_STRATEGY = Constant.of()
+            .timeout(Duration.ofMinutes(30L))
+            .delay(Duration.ofSeconds(5L))
+            .build();
+
+    static Stream<Arguments> provideTimelines() {
+        return Stream.of(
+                Arguments.of(BaseHandlerStd.StabilizeOperation.CREATE, Duration.ofMinutes(3L), 13, Duration.ofSeconds(210L)),
+                Arguments.of(BaseHandlerStd.StabilizeOperation.UPDATE, Duration.ofMinutes(1L), 9, Duration.ofSeconds(80L)),
+                Arguments.of(BaseHandlerStd.StabilizeOperation.UPDATE_TAGS, Duration.ofSeconds(8L), 6, Duration.ofSeconds(10L)),
+                Arguments.of(BaseHandlerStd.StabilizeOperation.DELETE, Duration.ofMinutes(2L), 11, Duration.ofSeconds(150L))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTimelines")
+    public void simulateStabilization(final BaseHandlerStd.StabilizeOperation operation,
+                                      final Duration timeToStable,
+                                      final int maxGetWorkgroupCalls,
+                                      final Duration maxLatency) {
+        final Simulation constant = simulate(CONSTANT_BACKOFF_STRATEGY, timeToStable);
+        final Simulation adaptive = simulate(BaseHandlerStd.backoffStrategy(operation), timeToStable);
+
+        assertThat(adaptive.calls).isLessThanOrEqualTo(maxGetWorkgroupCalls);
+        assertThat(adaptive.latency).isBetween(timeToStable, maxLatency);
+        if (operation == BaseHandlerStd.StabilizeOperation.UPDATE_TAGS) {
+            // Done within seconds, where the short first delays matter more than the number of calls
+            assertThat(adaptive.latency).isLessThanOrEqualTo(constant.latency);
+        } else {
+            assertThat(adaptive.calls).isLessThan(constant.calls);
+        }
+    }
+
+    private static Simulation simulate(final Delay delay, final Duration timeToStable) {
+        Duration elapsed = Duration.ZERO;
+        int calls = 1;
+        int attempt = 0;
+        while (elapsed.compareTo(timeToStable) < 0) {
+            Duration next = delay.nextDelay(++attempt);
+            assertThat(next).isNotEqualTo(Duration.ZERO);
+            elapsed = elapsed.plus(next);
+            calls++;
+        }
+        return new Simulation(calls, elapsed);
+    }
+
+    private static class Simulation {
+        private final int calls;
+        private final Duration latency;
+
+        Simulation(final int calls, final Duration latency) {
+            this.calls = calls;
+            this.latency = latency;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.FakeClock;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+import software.amazon.redshiftserverless.common.HandlerSimulator;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Training workload for the AppCDS archive built by the {@code appcds} profile. Drives create, read, update and
+ * delete through the handlers against the in-memory fakes and then runs the SnapStart priming, so the dumped class
+ * list covers what real invocations load. Only classes that resolve from the handler jar end up in the archive, the
+ * fakes and this class are skipped at dump time.
+ */
+public class CdsTraining {
+
+    public static void main(final String[] args) {
+        final HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulator = AbstractTestBase.simulator(FakeRedshiftServerlessClient.builder()
+                .behavior(FakeServiceBehavior.builder().clock(FakeClock.simulated()).build())
+                // long enough that every operation is handed back at least once and stabilization is exercised
+                .createDuration(Duration.ofMinutes(1))
+                .updateDuration(Duration.ofSeconds(30))
+                .deleteDuration(Duration.ofMinutes(1))
+                .build());
+
+        final ResourceModel created = AbstractTestBase.createRequestResourceModel();
+        created.setTags(Collections.singletonList(Tag.builder().key("team").value("analytics").build()));
+        simulator.run("create", new CreateHandler(), request(created, null));
+        simulator.run("read", new ReadHandler(), request(AbstractTestBase.getReadRequestResourceModel(), null));
+
+        final ResourceModel updated = AbstractTestBase.createRequestResourceModel();
+        updated.setMaxCapacity(1024);
+        updated.setTags(Collections.singletonList(Tag.builder().key("team").value("platform").build()));
+        simulator.run("update", new UpdateHandler(), request(updated, created));
+        simulator.run("delete", new DeleteHandler(), request(AbstractTestBase.deleteRequestResourceModel(), null));
+
+        Priming.prime(System.out::println);
+        System.out.print(simulator.report("appcds training"));
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+}
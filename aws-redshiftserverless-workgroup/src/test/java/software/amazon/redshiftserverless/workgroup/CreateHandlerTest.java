@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -67,6 +68,9 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        // The final read reuses the GetWorkgroup response from stabilization
+        verify(proxyClient.client(), times(1)).getWorkgroup(any(GetWorkgroupRequest.class));
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -91,18 +95,21 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .message("There is an operation running on the existing workgroup. Try again later.")
                 .build();
 
-        /**
-         * The Thread.sleep() is actually called here, making unit longer.
-         * MockStatic easily will need a Java version upgrade, then the Mockito upgrade,
-         * I'll leave the upgrade in another commit.
-         */
         when(proxyClient.client().createWorkgroup(any(CreateWorkgroupRequest.class)))
                 .thenThrow(exception)
                 .thenReturn(createResponseSdk());
         when(proxyClient.client().getWorkgroup(any(GetWorkgroupRequest.class))).thenReturn(getReadResponseSdk());
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> retryResponse = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(retryResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(retryResponse.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.BUSY_WORKGROUP_RETRY_DELAY_SECONDS);
+        assertThat(retryResponse.getCallbackContext().getBusyWorkgroupRetryAttempts()).isEqualTo(1);
 
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, retryResponse.getCallbackContext(), proxyClient, logger);
+
+        verify(proxyClient.client(), times(2)).createWorkgroup(any(CreateWorkgroupRequest.class));
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -120,11 +127,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(requestResourceModel)
                 .build();
 
-        /**
-         * The Thread.sleep() is actually called here, making unit longer.
-         * MockStatic easily will need a Java version upgrade, then the Mockito upgrade,
-         * I'll leave the upgrade in another commit.
-         */
         when(proxyClient.client().createWorkgroup(any(CreateWorkgroupRequest.class)))
                 .thenThrow(InternalServerException.builder()
                         .message("test")
@@ -138,6 +140,28 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isEqualTo("test");
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+    }
+
+    @Test
+    public void handleRequest_failOnConflictExceptionAfterMaxRetries() {
+        final CreateHandler handler = new CreateHandler();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(createRequestResourceModel())
+                .build();
+
+        when(proxyClient.client().createWorkgroup(any(CreateWorkgroupRequest.class)))
+                .thenThrow(ConflictException.builder()
+                        .message("There is an operation running on the existing workgroup. Try again later.")
+                        .build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setBusyWorkgroupRetryAttempts(BaseHandlerStd.BUSY_WORKGROUP_MAX_RETRIES);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
     }
 }
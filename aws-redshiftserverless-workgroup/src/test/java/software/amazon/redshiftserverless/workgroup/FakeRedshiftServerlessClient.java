@@ -0,0 +1,327 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter;
+import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.Endpoint;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ListWorkgroupsRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ListWorkgroupsResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.Tag;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.Workgroup;
+import software.amazon.awssdk.services.redshiftserverless.model.WorkgroupStatus;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory stand-in for the Redshift Serverless workgroup and tag APIs. Workgroups move through CREATING,
+ * MODIFYING and DELETING on a configurable schedule measured on the behavior's clock, and every call goes through
+ * {@link FakeServiceBehavior} for latency, throttling and call counts. Thread-safe.
+ */
+public class FakeRedshiftServerlessClient implements RedshiftServerlessClient {
+    private static final int DEFAULT_PORT = 5439;
+
+    @Getter
+    private final FakeServiceBehavior behavior;
+    private final Duration createDuration;
+    private final Duration updateDuration;
+    private final Duration deleteDuration;
+    private final String region;
+    private final String accountId;
+
+    private final Map<String, WorkgroupState> workgroups = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new LinkedHashMap<>();
+
+    /**
+     * @param behavior       latency, throttling and clock, instant when not set
+     * @param createDuration time a new workgroup stays CREATING before it is AVAILABLE
+     * @param updateDuration time an updated workgroup stays MODIFYING
+     * @param deleteDuration time a deleted workgroup stays DELETING before it is gone
+     */
+    @Builder
+    FakeRedshiftServerlessClient(final FakeServiceBehavior behavior,
+                                 final Duration createDuration,
+                                 final Duration updateDuration,
+                                 final Duration deleteDuration,
+                                 final String region,
+                                 final String accountId) {
+        this.behavior = behavior == null ? FakeServiceBehavior.instant() : behavior;
+        this.createDuration = createDuration == null ? Duration.ZERO : createDuration;
+        this.updateDuration = updateDuration == null ? Duration.ZERO : updateDuration;
+        this.deleteDuration = deleteDuration == null ? Duration.ZERO : deleteDuration;
+        this.region = region == null ? "us-east-1" : region;
+        this.accountId = accountId == null ? "123456789012" : accountId;
+    }
+
+    @Override
+    public CreateWorkgroupResponse createWorkgroup(final CreateWorkgroupRequest request) {
+        return call("CreateWorkgroup", () -> {
+            if (workgroups.containsKey(request.workgroupName())) {
+                throw ConflictException.builder().message("Workgroup " + request.workgroupName() + " already exists").build();
+            }
+            final String workgroupId = UUID.randomUUID().toString();
+            final Workgroup workgroup = Workgroup.builder()
+                    .workgroupName(request.workgroupName())
+                    .workgroupId(workgroupId)
+                    .workgroupArn(String.format("arn:aws:redshift-serverless:%s:%s:workgroup/%s", region, accountId, workgroupId))
+                    .namespaceName(request.namespaceName())
+                    .baseCapacity(request.baseCapacity())
+                    .maxCapacity(request.maxCapacity())
+                    .enhancedVpcRouting(request.enhancedVpcRouting())
+                    .configParameters(request.configParameters())
+                    .securityGroupIds(request.securityGroupIds())
+                    .subnetIds(request.subnetIds())
+                    .publiclyAccessible(request.publiclyAccessible())
+                    .endpoint(Endpoint.builder()
+                            .address(String.format("%s.%s.%s.redshift-serverless.amazonaws.com",
+                                    request.workgroupName(), accountId, region))
+                            .port(request.port() == null ? DEFAULT_PORT : request.port())
+                            .vpcEndpoints(new ArrayList<>())
+                            .build())
+                    .creationDate(Instant.ofEpochMilli(now()))
+                    .build();
+            workgroups.put(request.workgroupName(), new WorkgroupState(workgroup, WorkgroupStatus.CREATING, now() + createDuration.toMillis()));
+            tags.put(workgroup.workgroupArn(), toTagMap(request.tags()));
+            return CreateWorkgroupResponse.builder().workgroup(describe(request.workgroupName())).build();
+        });
+    }
+
+    @Override
+    public GetWorkgroupResponse getWorkgroup(final GetWorkgroupRequest request) {
+        return call("GetWorkgroup", () -> GetWorkgroupResponse.builder().workgroup(describe(request.workgroupName())).build());
+    }
+
+    @Override
+    public UpdateWorkgroupResponse updateWorkgroup(final UpdateWorkgroupRequest request) {
+        return call("UpdateWorkgroup", () -> {
+            final WorkgroupState state = availableWorkgroup(request.workgroupName());
+            final Workgroup.Builder workgroup = state.workgroup.toBuilder();
+            if (request.baseCapacity() != null) {
+                workgroup.baseCapacity(request.baseCapacity());
+            }
+            if (request.maxCapacity() != null) {
+                workgroup.maxCapacity(request.maxCapacity());
+            }
+            if (request.enhancedVpcRouting() != null) {
+                workgroup.enhancedVpcRouting(request.enhancedVpcRouting());
+            }
+            if (request.hasConfigParameters()) {
+                workgroup.configParameters(mergeConfigParameters(state.workgroup.configParameters(), request.configParameters()));
+            }
+            if (request.publiclyAccessible() != null) {
+                workgroup.publiclyAccessible(request.publiclyAccessible());
+            }
+            if (request.hasSubnetIds()) {
+                workgroup.subnetIds(request.subnetIds());
+            }
+            if (request.hasSecurityGroupIds()) {
+                workgroup.securityGroupIds(request.securityGroupIds());
+            }
+            if (request.port() != null) {
+                workgroup.endpoint(state.workgroup.endpoint().toBuilder().port(request.port()).build());
+            }
+            state.workgroup = workgroup.build();
+            state.transition(WorkgroupStatus.MODIFYING, now() + updateDuration.toMillis());
+            return UpdateWorkgroupResponse.builder().workgroup(describe(request.workgroupName())).build();
+        });
+    }
+
+    @Override
+    public DeleteWorkgroupResponse deleteWorkgroup(final DeleteWorkgroupRequest request) {
+        return call("DeleteWorkgroup", () -> {
+            final WorkgroupState state = availableWorkgroup(request.workgroupName());
+            state.transition(WorkgroupStatus.DELETING, now() + deleteDuration.toMillis());
+            return DeleteWorkgroupResponse.builder().workgroup(state.describe()).build();
+        });
+    }
+
+    @Override
+    public ListWorkgroupsResponse listWorkgroups(final ListWorkgroupsRequest request) {
+        return call("ListWorkgroups", () -> {
+            final List<String> names = new ArrayList<>();
+            for (final String name : new ArrayList<>(workgroups.keySet())) {
+                if (find(name) != null) {
+                    names.add(name);
+                }
+            }
+            final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            final int to = Math.min(names.size(), from + (request.maxResults() == null ? 100 : request.maxResults()));
+            return ListWorkgroupsResponse.builder()
+                    .workgroups(names.subList(from, to).stream().map(this::describe).collect(Collectors.toList()))
+                    .nextToken(to < names.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return call("TagResource", () -> {
+            resourceTags(request.resourceArn()).putAll(toTagMap(request.tags()));
+            return TagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return call("UntagResource", () -> {
+            resourceTags(request.resourceArn()).keySet().removeAll(request.tagKeys());
+            return UntagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call("ListTagsForResource", () -> ListTagsForResourceResponse.builder()
+                .tags(resourceTags(request.resourceArn()).entrySet().stream()
+                        .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Workgroup status as a caller would see it right now, or null when it does not exist.
+     */
+    public synchronized WorkgroupStatus status(final String workgroupName) {
+        final WorkgroupState state = find(workgroupName);
+        return state == null ? null : state.status;
+    }
+
+    /**
+     * Tags currently on the resource, or null when it does not exist.
+     */
+    public synchronized Map<String, String> tags(final String resourceArn) {
+        final Map<String, String> resourceTags = tags.get(resourceArn);
+        return resourceTags == null ? null : new LinkedHashMap<>(resourceTags);
+    }
+
+    private <T> T call(final String operation, final Supplier<T> body) {
+        return behavior.call(operation, () -> {
+            synchronized (this) {
+                return body.get();
+            }
+        }, () -> ThrottlingException.builder().message("Rate exceeded").statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build());
+    }
+
+    private long now() {
+        return behavior.getClock().millis();
+    }
+
+    private WorkgroupState find(final String workgroupName) {
+        final WorkgroupState state = workgroups.get(workgroupName);
+        if (state == null) {
+            return null;
+        }
+        if (state.pendingUntil <= now()) {
+            if (state.status == WorkgroupStatus.DELETING) {
+                workgroups.remove(workgroupName);
+                tags.remove(state.workgroup.workgroupArn());
+                return null;
+            }
+            state.status = WorkgroupStatus.AVAILABLE;
+        }
+        return state;
+    }
+
+    private WorkgroupState existingWorkgroup(final String workgroupName) {
+        final WorkgroupState state = find(workgroupName);
+        if (state == null) {
+            throw ResourceNotFoundException.builder().message("Workgroup " + workgroupName + " not found").build();
+        }
+        return state;
+    }
+
+    private WorkgroupState availableWorkgroup(final String workgroupName) {
+        final WorkgroupState state = existingWorkgroup(workgroupName);
+        if (state.status != WorkgroupStatus.AVAILABLE) {
+            throw ConflictException.builder()
+                    .message(BaseHandlerStd.BUSY_WORKGROUP_RETRY_EXCEPTION_MESSAGE + " " + workgroupName)
+                    .build();
+        }
+        return state;
+    }
+
+    private Workgroup describe(final String workgroupName) {
+        return existingWorkgroup(workgroupName).describe();
+    }
+
+    private Map<String, String> resourceTags(final String resourceArn) {
+        final Map<String, String> resourceTags = tags.get(resourceArn);
+        if (resourceTags == null) {
+            throw ResourceNotFoundException.builder().message("Resource " + resourceArn + " not found").build();
+        }
+        return resourceTags;
+    }
+
+    // The service updates the parameters it is given and keeps the rest
+    private static List<ConfigParameter> mergeConfigParameters(final List<ConfigParameter> current,
+                                                               final List<ConfigParameter> updates) {
+        final Map<String, ConfigParameter> merged = new LinkedHashMap<>();
+        current.forEach(parameter -> merged.put(parameter.parameterKey(), parameter));
+        updates.forEach(parameter -> merged.put(parameter.parameterKey(), parameter));
+        return new ArrayList<>(merged.values());
+    }
+
+    private static Map<String, String> toTagMap(final List<Tag> tagList) {
+        final Map<String, String> tagMap = new LinkedHashMap<>();
+        tagList.forEach(tag -> tagMap.put(tag.key(), tag.value()));
+        return tagMap;
+    }
+
+    private static final class WorkgroupState {
+        private Workgroup workgroup;
+        private WorkgroupStatus status;
+        private long pendingUntil;
+
+        private WorkgroupState(final Workgroup workgroup, final WorkgroupStatus status, final long pendingUntil) {
+            this.workgroup = workgroup;
+            this.status = status;
+            this.pendingUntil = pendingUntil;
+        }
+
+        private void transition(final WorkgroupStatus status, final long pendingUntil) {
+            this.status = status;
+            this.pendingUntil = pendingUntil;
+        }
+
+        private Workgroup describe() {
+            return workgroup.toBuilder().status(status).build();
+        }
+    }
+}
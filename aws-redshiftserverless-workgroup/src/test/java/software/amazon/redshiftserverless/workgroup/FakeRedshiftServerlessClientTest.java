@@ -0,0 +1,112 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.ConflictException;
+import software.amazon.awssdk.services.redshiftserverless.model.CreateWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.DeleteWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshiftserverless.model.ThrottlingException;
+import software.amazon.awssdk.services.redshiftserverless.model.UpdateWorkgroupRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.WorkgroupStatus;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.FakeClock;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FakeRedshiftServerlessClientTest extends AbstractTestBase {
+
+    @Test
+    public void workgroup_MovesThroughStatesOnTheClock() {
+        final FakeClock clock = FakeClock.simulated();
+        final FakeRedshiftServerlessClient client = FakeRedshiftServerlessClient.builder()
+                .behavior(FakeServiceBehavior.builder().clock(clock).build())
+                .createDuration(Duration.ofMinutes(3))
+                .updateDuration(Duration.ofSeconds(40))
+                .deleteDuration(Duration.ofMinutes(2))
+                .build();
+
+        client.createWorkgroup(CreateWorkgroupRequest.builder().workgroupName("wg").namespaceName("ns").build());
+        assertThat(client.status("wg")).isEqualTo(WorkgroupStatus.CREATING);
+        final ConflictException busy = assertThrows(ConflictException.class,
+                () -> client.updateWorkgroup(UpdateWorkgroupRequest.builder().workgroupName("wg").baseCapacity(32).build()));
+        assertThat(BaseHandlerStd.isRetriableWorkgroupException(busy)).isTrue();
+
+        clock.advance(Duration.ofMinutes(3).toMillis());
+        assertThat(client.status("wg")).isEqualTo(WorkgroupStatus.AVAILABLE);
+        client.updateWorkgroup(UpdateWorkgroupRequest.builder().workgroupName("wg").baseCapacity(32).port(5440).build());
+        assertThat(client.status("wg")).isEqualTo(WorkgroupStatus.MODIFYING);
+
+        clock.advance(Duration.ofSeconds(40).toMillis());
+        assertThat(client.getWorkgroup(GetWorkgroupRequest.builder().workgroupName("wg").build()).workgroup())
+                .satisfies(workgroup -> {
+                    assertThat(workgroup.baseCapacity()).isEqualTo(32);
+                    assertThat(workgroup.endpoint().port()).isEqualTo(5440);
+                });
+
+        client.deleteWorkgroup(DeleteWorkgroupRequest.builder().workgroupName("wg").build());
+        assertThat(client.status("wg")).isEqualTo(WorkgroupStatus.DELETING);
+        clock.advance(Duration.ofMinutes(2).toMillis());
+        assertThrows(ResourceNotFoundException.class,
+                () -> client.getWorkgroup(GetWorkgroupRequest.builder().workgroupName("wg").build()));
+    }
+
+    @Test
+    public void behavior_ThrottlesAtConfiguredRate() {
+        final FakeRedshiftServerlessClient client = FakeRedshiftServerlessClient.builder()
+                .behavior(FakeServiceBehavior.builder().clock(FakeClock.simulated()).throttleRate(1.0).build())
+                .build();
+
+        assertThrows(ThrottlingException.class,
+                () -> client.getWorkgroup(GetWorkgroupRequest.builder().workgroupName("wg").build()));
+        assertThat(client.getBehavior().throttledCount("GetWorkgroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void createAndUpdateHandlers_AgainstFake() {
+        final AmazonWebServicesClientProxy proxy =
+                new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final FakeRedshiftServerlessClient sdkClient = FakeRedshiftServerlessClient.builder().build();
+        final ProxyClient<RedshiftServerlessClient> proxyClient = MOCK_PROXY(proxy, sdkClient);
+
+        final ResourceModel createModel = createRequestResourceModel();
+        createModel.setTags(Collections.singletonList(Tag.builder().key("team").value("analytics").build()));
+        final ProgressEvent<ResourceModel, CallbackContext> created = new CreateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(createModel).build(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getWorkgroup().getEndpoint().getPort()).isEqualTo(5439);
+        final String workgroupArn = created.getResourceModel().getWorkgroup().getWorkgroupArn();
+
+        final ResourceModel updateModel = createRequestResourceModel();
+        updateModel.setMaxCapacity(1024);
+        updateModel.setTags(Arrays.asList(
+                Tag.builder().key("team").value("platform").build(),
+                Tag.builder().key("stage").value("prod").build()));
+        final ProgressEvent<ResourceModel, CallbackContext> updated = new UpdateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(updateModel)
+                        .previousResourceState(createModel)
+                        .build(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getMaxCapacity()).isEqualTo(1024);
+        assertThat(sdkClient.tags(workgroupArn)).containsEntry("team", "platform").containsEntry("stage", "prod");
+        assertThat(sdkClient.getBehavior().callCount("CreateWorkgroup")).isEqualTo(1);
+        assertThat(sdkClient.getBehavior().callCount("UpdateWorkgroup")).isEqualTo(1);
+        assertThat(sdkClient.getBehavior().callCount("ListTagsForResource")).isEqualTo(1);
+    }
+}
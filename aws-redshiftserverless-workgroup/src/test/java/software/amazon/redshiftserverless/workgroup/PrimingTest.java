@@ -0,0 +1,25 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimingTest {
+
+    @Test
+    public void prime_CompletesEveryStepWithoutNetwork() {
+        final List<String> failures = new ArrayList<>();
+
+        assertThat(Priming.prime(failures::add)).isTrue();
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    public void beforeCheckpoint_NeverThrows() throws Exception {
+        new Priming().beforeCheckpoint(null);
+        new Priming().afterRestore(null);
+    }
+}
@@ -0,0 +1,82 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.redshiftserverless.common.FakeClock;
+import software.amazon.redshiftserverless.common.FakeServiceBehavior;
+import software.amazon.redshiftserverless.common.HandlerSimulator;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Create, update and delete of a workgroup replayed through {@link HandlerSimulator}. The report {@link #main} prints
+ * is what to compare when changing backoff schedules or batching API calls.
+ */
+public class StackSimulationTest extends AbstractTestBase {
+    private static final Duration API_LATENCY = Duration.ofMillis(120);
+    private static final Duration CREATE_DURATION = Duration.ofMinutes(3);
+    private static final Duration UPDATE_DURATION = Duration.ofSeconds(90);
+    private static final Duration DELETE_DURATION = Duration.ofMinutes(2);
+
+    @Test
+    public void createUpdateDelete() {
+        final HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulator = simulateStack();
+
+        for (final HandlerSimulator.StepReport step : simulator.getSteps()) {
+            // Each operation is handed back to CloudFormation at least once while the service works
+            assertThat(step.getInvocations()).as(step.getStep()).isGreaterThan(1);
+            assertThat(step.getWaitedMillis()).as(step.getStep()).isPositive();
+        }
+        assertThat(simulator.getSteps().get(0).getElapsedMillis()).isGreaterThanOrEqualTo(CREATE_DURATION.toMillis());
+        assertThat(simulator.getSteps().get(2).getElapsedMillis()).isGreaterThanOrEqualTo(DELETE_DURATION.toMillis());
+    }
+
+    /**
+     * Prints the report, run it before and after a change to backoff schedules or API call batching.
+     */
+    public static void main(final String[] args) {
+        System.out.print(simulateStack().report("workgroup create/update/delete"));
+    }
+
+    private static HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulateStack() {
+        final HandlerSimulator<BaseHandlerStd, ResourceModel, CallbackContext> simulator = simulator(FakeRedshiftServerlessClient.builder()
+                .behavior(FakeServiceBehavior.builder()
+                        .clock(FakeClock.simulated())
+                        .latency(API_LATENCY)
+                        .build())
+                .createDuration(CREATE_DURATION)
+                .updateDuration(UPDATE_DURATION)
+                .deleteDuration(DELETE_DURATION)
+                .build());
+
+        final ResourceModel created = createRequestResourceModel();
+        created.setTags(Collections.singletonList(Tag.builder().key("team").value("analytics").build()));
+        final ProgressEvent<ResourceModel, CallbackContext> create = simulator.run("create", new CreateHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(created).build());
+        assertThat(create.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ResourceModel updated = createRequestResourceModel();
+        updated.setMaxCapacity(1024);
+        updated.setTags(Arrays.asList(
+                Tag.builder().key("team").value("platform").build(),
+                Tag.builder().key("stage").value("prod").build()));
+        final ProgressEvent<ResourceModel, CallbackContext> update = simulator.run("update", new UpdateHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(updated)
+                        .previousResourceState(created)
+                        .build());
+        assertThat(update.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(update.getResourceModel().getMaxCapacity()).isEqualTo(1024);
+
+        final ProgressEvent<ResourceModel, CallbackContext> delete = simulator.run("delete", new DeleteHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(deleteRequestResourceModel()).build());
+        assertThat(delete.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return simulator;
+    }
+}
@@ -0,0 +1,113 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshiftserverless.RedshiftServerlessClient;
+import software.amazon.awssdk.services.redshiftserverless.model.Endpoint;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.Workgroup;
+import software.amazon.awssdk.services.redshiftserverless.model.WorkgroupStatus;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Time to first response in a fresh JVM, with and without {@link Priming} run beforehand the way a SnapStart
+ * checkpoint would. Each fork measures one cold read: build the client, deserialize the model, run the handler and
+ * serialize the response. Service calls are answered in-process. Not picked up by surefire; run with
+ * {@code mvn -P benchmark verify -Djmh.benchmarks=StartupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+    private static final String REQUEST = "{\"WorkgroupName\":\"analytics\",\"NamespaceName\":\"analytics\"}";
+
+    @Param({"false", "true"})
+    private boolean primed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (primed) {
+            Priming.prime(message -> { });
+        }
+    }
+
+    @Benchmark
+    public String firstResponse() throws IOException {
+        final Serializer serializer = new Serializer();
+        final ResourceModel model = serializer.deserialize(REQUEST, new TypeReference<ResourceModel>() { });
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(new LoggerProxy(),
+                new Credentials("accessKey", "secretKey", "token"), () -> 0L);
+        final RedshiftServerlessClient client = ClientBuilder.getClient(Region.US_EAST_1, null);
+        final ProgressEvent<ResourceModel, CallbackContext> response = new ReadHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(),
+                new CallbackContext(),
+                inProcessProxyClient(client, request -> GetWorkgroupResponse.builder()
+                        .workgroup(Workgroup.builder()
+                                .workgroupName(model.getWorkgroupName())
+                                .namespaceName(model.getNamespaceName())
+                                .workgroupArn("arn:aws:redshift-serverless:us-east-1:123456789012:workgroup/analytics")
+                                .baseCapacity(32)
+                                .endpoint(Endpoint.builder().port(5439).build())
+                                .status(WorkgroupStatus.AVAILABLE)
+                                .creationDate(Instant.EPOCH)
+                                .build())
+                        .build()),
+                message -> { });
+        return serializer.serialize(response);
+    }
+
+    private static ProxyClient<RedshiftServerlessClient> inProcessProxyClient(final RedshiftServerlessClient client,
+                                                                              final Function<AwsRequest, AwsResponse> responder) {
+        return new ProxyClient<RedshiftServerlessClient>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return (ResponseT) responder.apply(request);
+            }
+
+            @Override
+            public RedshiftServerlessClient client() {
+                return client;
+            }
+        };
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StartupBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
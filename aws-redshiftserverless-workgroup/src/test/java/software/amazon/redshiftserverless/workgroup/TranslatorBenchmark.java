@@ -0,0 +1,193 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.NetworkInterface;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.VpcEndpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the direct model mappers in {@link Translator} with the Gson round-trip they replaced, and the keyed tag
+ * diff computed on every update with the list-based one before it. Not picked up by surefire; run with {@code mvn -P benchmark verify}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final Gson GSON = new Gson();
+
+    private GetWorkgroupResponse response;
+    private List<Tag> tags;
+
+    /**
+     * A stack update against a tagged workgroup: a tenth of the tags removed, a tenth added and a fifth re-valued.
+     */
+    @State(Scope.Benchmark)
+    public static class TagDiffs {
+        @Param({"10", "50", "200"})
+        private int tagCount;
+
+        private ResourceModel desired;
+        private ResourceModel current;
+
+        @Setup
+        public void setup() {
+            final List<Tag> currentTags = new ArrayList<>(tagCount);
+            final List<Tag> desiredTags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                final Tag tag = Tag.builder().key("cost-center-" + i).value("team-" + i).build();
+                currentTags.add(tag);
+                if (i % 10 == 0) {
+                    continue;
+                }
+                desiredTags.add(i % 5 == 1 ? Tag.builder().key(tag.getKey()).value("team-" + i + "-v2").build() : tag);
+            }
+            for (int i = 0; i < tagCount / 10; i++) {
+                desiredTags.add(Tag.builder().key("owner-" + i).value("owner-" + i + "@example.com").build());
+            }
+            desired = ResourceModel.builder().tags(desiredTags).build();
+            current = ResourceModel.builder()
+                    .tags(currentTags)
+                    .workgroup(Workgroup.builder()
+                            .workgroupArn("arn:aws:redshift-serverless:us-east-1:123456789012:workgroup/0b4e2b5e-5c3f-4c7e-9e0d-6f1c2a3b4c5d")
+                            .build())
+                    .build();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        final List<software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter> configParameters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            configParameters.add(software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter.builder()
+                    .parameterKey("key" + i)
+                    .parameterValue("value" + i)
+                    .build());
+        }
+        final List<VpcEndpoint> vpcEndpoints = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            vpcEndpoints.add(VpcEndpoint.builder()
+                    .vpcEndpointId("vpce-" + i)
+                    .vpcId("vpc-" + i)
+                    .networkInterfaces(NetworkInterface.builder()
+                            .networkInterfaceId("eni-" + i)
+                            .subnetId("subnet-" + i)
+                            .privateIpAddress("10.0.0." + i)
+                            .availabilityZone("us-east-1a")
+                            .build())
+                    .build());
+        }
+        response = GetWorkgroupResponse.builder()
+                .workgroup(software.amazon.awssdk.services.redshiftserverless.model.Workgroup.builder()
+                        .workgroupName("workgroup")
+                        .namespaceName("namespace")
+                        .baseCapacity(32)
+                        .configParameters(configParameters)
+                        .securityGroupIds("sg-1", "sg-2")
+                        .subnetIds("subnet-1", "subnet-2", "subnet-3")
+                        .endpoint(software.amazon.awssdk.services.redshiftserverless.model.Endpoint.builder()
+                                .address("workgroup.example.com")
+                                .port(5439)
+                                .vpcEndpoints(vpcEndpoints)
+                                .build())
+                        .build())
+                .build();
+
+        tags = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tags.add(Tag.builder().key("key" + i).value("value" + i).build());
+        }
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(response);
+    }
+
+    @Benchmark
+    public Endpoint translateEndpointDirect() {
+        return Translator.translateToModelEndpoint(response.workgroup().endpoint());
+    }
+
+    @Benchmark
+    public Endpoint translateEndpointGson() {
+        return GSON.fromJson(GSON.toJson(response.workgroup().endpoint()), Endpoint.class);
+    }
+
+    @Benchmark
+    public List<software.amazon.awssdk.services.redshiftserverless.model.Tag> translateTagsDirect() {
+        final List<software.amazon.awssdk.services.redshiftserverless.model.Tag> sdkTags = new ArrayList<>(tags.size());
+        for (final Tag tag : tags) {
+            sdkTags.add(Translator.translateToSdkTag(tag));
+        }
+        return sdkTags;
+    }
+
+    @Benchmark
+    public List<software.amazon.awssdk.services.redshiftserverless.model.Tag> translateTagsGson() {
+        final List<software.amazon.awssdk.services.redshiftserverless.model.Tag> sdkTags = new ArrayList<>(tags.size());
+        for (final Tag tag : tags) {
+            sdkTags.add(GSON.fromJson(GSON.toJson(tag), software.amazon.awssdk.services.redshiftserverless.model.Tag.class));
+        }
+        return sdkTags;
+    }
+
+    @Benchmark
+    public UpdateTagsRequest translateToUpdateTagsRequest(final TagDiffs state) {
+        return Translator.translateToUpdateTagsRequest(state.desired, state.current);
+    }
+
+    /**
+     * The List.contains diff the keyed one replaced, which also untagged and re-tagged every re-valued key.
+     */
+    @Benchmark
+    public UpdateTagsRequest translateToUpdateTagsRequestListDiff(final TagDiffs state) {
+        final List<Tag> desiredTags = state.desired.getTags();
+        final List<Tag> currentTags = state.current.getTags();
+        final List<software.amazon.awssdk.services.redshiftserverless.model.Tag> toBeCreatedTags = desiredTags.stream()
+                .filter(tag -> !currentTags.contains(tag))
+                .map(Translator::translateToSdkTag)
+                .collect(Collectors.toList());
+        final List<String> toBeDeletedKeys = currentTags.stream()
+                .filter(tag -> !desiredTags.contains(tag))
+                .map(Tag::getKey)
+                .collect(Collectors.toList());
+        final String resourceArn = state.current.getWorkgroup().getWorkgroupArn();
+        return UpdateTagsRequest.builder()
+                .createNewTagsRequest(TagResourceRequest.builder().tags(toBeCreatedTags).resourceArn(resourceArn).build())
+                .deleteOldTagsRequest(UntagResourceRequest.builder().tagKeys(toBeDeletedKeys).resourceArn(resourceArn).build())
+                .build();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TranslatorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,174 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TranslatorTest {
+    private static final Gson GSON = new Gson();
+    private static final int ITERATIONS = 500;
+
+    private final Random random = new Random(20240501L);
+
+    @Test
+    public void translateToSdkTag_MatchesGsonRoundTrip() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final Tag tag = Tag.builder().key(randomString()).value(randomString()).build();
+
+            assertThat(Translator.translateToSdkTag(tag))
+                    .isEqualTo(roundTrip(tag, software.amazon.awssdk.services.redshiftserverless.model.Tag.class));
+        }
+    }
+
+    @Test
+    public void translateToModelTag_MatchesGsonRoundTrip() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final software.amazon.awssdk.services.redshiftserverless.model.Tag tag =
+                    software.amazon.awssdk.services.redshiftserverless.model.Tag.builder().key(randomString()).value(randomString()).build();
+
+            assertThat(Translator.translateToModelTag(tag)).isEqualTo(roundTrip(tag, Tag.class));
+        }
+    }
+
+    @Test
+    public void translateToSdkConfigParameter_MatchesGsonRoundTrip() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final ConfigParameter configParameter = ConfigParameter.builder()
+                    .parameterKey(randomString())
+                    .parameterValue(randomString())
+                    .build();
+
+            assertThat(Translator.translateToSdkConfigParameter(configParameter))
+                    .isEqualTo(roundTrip(configParameter, software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter.class));
+        }
+    }
+
+    @Test
+    public void translateToModelConfigParameter_MatchesGsonRoundTrip() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter configParameter =
+                    software.amazon.awssdk.services.redshiftserverless.model.ConfigParameter.builder()
+                            .parameterKey(randomString())
+                            .parameterValue(randomString())
+                            .build();
+
+            assertThat(Translator.translateToModelConfigParameter(configParameter))
+                    .isEqualTo(roundTrip(configParameter, ConfigParameter.class));
+        }
+    }
+
+    @Test
+    public void translateToModelEndpoint_MatchesGsonRoundTrip() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final software.amazon.awssdk.services.redshiftserverless.model.Endpoint endpoint = randomEndpoint();
+
+            assertThat(Translator.translateToModelEndpoint(endpoint)).isEqualTo(roundTrip(endpoint, Endpoint.class));
+        }
+    }
+
+    @Test
+    public void translateToUpdateTagsRequest_UnchangedTagsIsEmpty() {
+        final Tag tag = Tag.builder().key("key").value("value").build();
+        final ResourceModel current = ResourceModel.builder()
+                .workgroup(Workgroup.builder().workgroupArn("arn").build())
+                .tags(Collections.singletonList(tag))
+                .build();
+
+        assertThat(Translator.translateToUpdateTagsRequest(ResourceModel.builder().tags(Collections.singletonList(tag)).build(), current).isEmpty()).isTrue();
+        assertThat(Translator.translateToUpdateTagsRequest(ResourceModel.builder().build(), current.toBuilder().tags(null).build()).isEmpty()).isTrue();
+        assertThat(Translator.translateToUpdateTagsRequest(ResourceModel.builder().build(), current).isEmpty()).isFalse();
+    }
+
+    @Test
+    public void translateToUpdateTagsRequest_ValueChangeIsOnlyRetagged() {
+        final ResourceModel current = ResourceModel.builder()
+                .workgroup(Workgroup.builder().workgroupArn("arn").build())
+                .tags(Arrays.asList(
+                        Tag.builder().key("kept").value("value").build(),
+                        Tag.builder().key("revalued").value("old").build(),
+                        Tag.builder().key("removed").value("value").build()))
+                .build();
+        final ResourceModel desired = ResourceModel.builder()
+                .tags(Arrays.asList(
+                        Tag.builder().key("kept").value("value").build(),
+                        Tag.builder().key("revalued").value("new").build(),
+                        Tag.builder().key("added").value("value").build()))
+                .build();
+
+        final UpdateTagsRequest updateTagsRequest = Translator.translateToUpdateTagsRequest(desired, current);
+
+        assertThat(updateTagsRequest.getCreateNewTagsRequest().tags()).containsExactly(
+                software.amazon.awssdk.services.redshiftserverless.model.Tag.builder().key("revalued").value("new").build(),
+                software.amazon.awssdk.services.redshiftserverless.model.Tag.builder().key("added").value("value").build());
+        assertThat(updateTagsRequest.getDeleteOldTagsRequest().tagKeys()).containsExactly("removed");
+        assertThat(updateTagsRequest.getCreateNewTagsRequest().resourceArn()).isEqualTo("arn");
+        assertThat(updateTagsRequest.getDeleteOldTagsRequest().resourceArn()).isEqualTo("arn");
+    }
+
+    @Test
+    public void translate_NullStaysNull() {
+        assertThat(Translator.translateToSdkTag(null)).isNull();
+        assertThat(Translator.translateToModelTag(null)).isNull();
+        assertThat(Translator.translateToSdkConfigParameter(null)).isNull();
+        assertThat(Translator.translateToModelConfigParameter(null)).isNull();
+        assertThat(Translator.translateToModelEndpoint(null)).isNull();
+    }
+
+    private static <T> T roundTrip(final Object source, final Class<T> target) {
+        return GSON.fromJson(GSON.toJson(source), target);
+    }
+
+    private software.amazon.awssdk.services.redshiftserverless.model.Endpoint randomEndpoint() {
+        final software.amazon.awssdk.services.redshiftserverless.model.Endpoint.Builder builder =
+                software.amazon.awssdk.services.redshiftserverless.model.Endpoint.builder()
+                        .address(randomString())
+                        .port(random.nextBoolean() ? random.nextInt(65536) : null);
+        if (random.nextBoolean()) {
+            final List<software.amazon.awssdk.services.redshiftserverless.model.VpcEndpoint> vpcEndpoints = new ArrayList<>();
+            for (int i = random.nextInt(4); i > 0; i--) {
+                vpcEndpoints.add(randomVpcEndpoint());
+            }
+            builder.vpcEndpoints(vpcEndpoints);
+        }
+        return builder.build();
+    }
+
+    private software.amazon.awssdk.services.redshiftserverless.model.VpcEndpoint randomVpcEndpoint() {
+        final software.amazon.awssdk.services.redshiftserverless.model.VpcEndpoint.Builder builder =
+                software.amazon.awssdk.services.redshiftserverless.model.VpcEndpoint.builder()
+                        .vpcEndpointId(randomString())
+                        .vpcId(randomString());
+        if (random.nextBoolean()) {
+            final List<software.amazon.awssdk.services.redshiftserverless.model.NetworkInterface> networkInterfaces = new ArrayList<>();
+            for (int i = random.nextInt(4); i > 0; i--) {
+                networkInterfaces.add(software.amazon.awssdk.services.redshiftserverless.model.NetworkInterface.builder()
+                        .networkInterfaceId(randomString())
+                        .subnetId(randomString())
+                        .privateIpAddress(randomString())
+                        .availabilityZone(randomString())
+                        .build());
+            }
+            builder.networkInterfaces(networkInterfaces);
+        }
+        return builder.build();
+    }
+
+    private String randomString() {
+        switch (random.nextInt(4)) {
+            case 0:
+                return null;
+            case 1:
+                return "";
+            default:
+                return UUID.randomUUID().toString();
+        }
+    }
+}
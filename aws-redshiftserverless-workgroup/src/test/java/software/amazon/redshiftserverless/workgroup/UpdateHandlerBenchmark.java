@@ -0,0 +1,97 @@
+package software.amazon.redshiftserverless.workgroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the property delta computed on every workgroup update. Not picked up by surefire; run with
+ * {@code mvn -P benchmark verify}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateHandlerBenchmark {
+    /**
+     * Config parameters on the workgroup. The update raises the max capacity and changes one parameter while the
+     * network settings, which are compared as collections, stay the same.
+     */
+    @Param({"5", "20"})
+    private int configParameterCount;
+
+    private ResourceModel desired;
+    private ResourceModel previous;
+
+    @Setup
+    public void setup() {
+        final Set<ConfigParameter> previousParameters = new HashSet<>();
+        final Set<ConfigParameter> desiredParameters = new HashSet<>();
+        for (int i = 0; i < configParameterCount; i++) {
+            final ConfigParameter parameter = ConfigParameter.builder().parameterKey("parameter_" + i).parameterValue("value_" + i).build();
+            previousParameters.add(parameter);
+            desiredParameters.add(i == 0 ? ConfigParameter.builder().parameterKey("parameter_" + i).parameterValue("updated").build() : parameter);
+        }
+        final List<String> subnetIds = new ArrayList<>();
+        final List<String> securityGroupIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            subnetIds.add(String.format("subnet-0a1b2c3d4e5f6%04d", i));
+            securityGroupIds.add(String.format("sg-0a1b2c3d4e5f6%04d", i));
+        }
+        previous = ResourceModel.builder()
+                .workgroupName("analytics")
+                .namespaceName("analytics")
+                .baseCapacity(32)
+                .maxCapacity(128)
+                .enhancedVpcRouting(false)
+                .configParameters(previousParameters)
+                .publiclyAccessible(false)
+                .subnetIds(subnetIds)
+                .securityGroupIds(securityGroupIds)
+                .port(5439)
+                .workgroup(Workgroup.builder()
+                        .workgroupArn("arn:aws:redshift-serverless:us-east-1:123456789012:workgroup/0b4e2b5e-5c3f-4c7e-9e0d-6f1c2a3b4c5d")
+                        .build())
+                .build();
+        desired = previous.toBuilder()
+                .maxCapacity(256)
+                .configParameters(desiredParameters)
+                .subnetIds(new ArrayList<>(subnetIds))
+                .securityGroupIds(new ArrayList<>(securityGroupIds))
+                .workgroup(null)
+                .build();
+    }
+
+    @Benchmark
+    public ResourceModel getUpdatableResourceModel() {
+        return UpdateHandler.getUpdatableResourceModel(desired, previous);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UpdateHandlerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -12,6 +12,9 @@ import software.amazon.awssdk.services.redshiftserverless.model.GetWorkgroupRequ
 import software.amazon.awssdk.services.redshiftserverless.model.InternalServerException;
 import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceRequest;
+import software.amazon.awssdk.services.redshiftserverless.model.TagResourceResponse;
+import software.amazon.awssdk.services.redshiftserverless.model.UntagResourceRequest;
 import software.amazon.awssdk.services.redshiftserverless.model.UpdateWorkgroupRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -21,11 +24,14 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -70,6 +76,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
+        // Initial read plus instance stabilization, unchanged tags are not stabilized and the final read reuses the last response
+        verify(proxyClient.client(), times(2)).getWorkgroup(any(GetWorkgroupRequest.class));
+        verify(proxyClient.client(), never()).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), never()).untagResource(any(UntagResourceRequest.class));
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -79,6 +90,34 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_TagOnlyChangeSkipsUpdateWorkgroup() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel desiredResourceModel = createRequestResourceModel().toBuilder()
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(createRequestResourceModel())
+                .desiredResourceState(desiredResourceModel)
+                .build();
+
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().getWorkgroup(any(GetWorkgroupRequest.class))).thenReturn(getReadResponseSdk());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // Initial read plus tag stabilization, no UpdateWorkgroup and no instance stabilization
+        verify(proxyClient.client(), never()).updateWorkgroup(any(UpdateWorkgroupRequest.class));
+        verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), times(2)).getWorkgroup(any(GetWorkgroupRequest.class));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getErrorCode()).isNull();
+    }
+
     @Test
     public void handleRequest_retryOnConflictException() {
         final UpdateHandler handler = new UpdateHandler();
@@ -94,19 +133,22 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .message("There is an operation running on the existing workgroup. Try again later.")
                 .build();
 
-        /**
-         * The Thread.sleep() is actually called here, making unit longer.
-         * MockStatic easily will need a Java version upgrade, then the Mockito upgrade,
-         * I'll leave the upgrade in another commit.
-         */
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
         when(proxyClient.client().updateWorkgroup(any(UpdateWorkgroupRequest.class)))
                 .thenThrow(exception)
                 .thenReturn(updateResponseSdk());
         when(proxyClient.client().getWorkgroup(any(GetWorkgroupRequest.class))).thenReturn(getReadResponseSdk());
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> retryResponse = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
 
+        assertThat(retryResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(retryResponse.getCallbackDelaySeconds()).isEqualTo(BaseHandlerStd.BUSY_WORKGROUP_RETRY_DELAY_SECONDS);
+        assertThat(retryResponse.getCallbackContext().getBusyWorkgroupRetryAttempts()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, retryResponse.getCallbackContext(), proxyClient, logger);
+
+        verify(proxyClient.client(), times(2)).updateWorkgroup(any(UpdateWorkgroupRequest.class));
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -119,16 +161,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Test
     public void handleRequest_noRetryOnOtherException() {
         final UpdateHandler handler = new UpdateHandler();
-        final ResourceModel requestResourceModel = updateResponseResourceModel();
+        final ResourceModel requestResourceModel = updateRequestResourceModel();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(requestResourceModel)
                 .build();
 
-        /**
-         * The Thread.sleep() is actually called here, making unit longer.
-         * MockStatic easily will need a Java version upgrade, then the Mockito upgrade,
-         * I'll leave the upgrade in another commit.
-         */
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
         when(proxyClient.client().updateWorkgroup(any(UpdateWorkgroupRequest.class)))
@@ -145,6 +182,30 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isEqualTo("test");
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+    }
+
+    @Test
+    public void handleRequest_failOnConflictExceptionAfterMaxRetries() {
+        final UpdateHandler handler = new UpdateHandler();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(updateRequestResourceModel())
+                .build();
+
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyClient.client().updateWorkgroup(any(UpdateWorkgroupRequest.class)))
+                .thenThrow(ConflictException.builder()
+                        .message("There is an operation running on the existing workgroup. Try again later.")
+                        .build());
+        when(proxyClient.client().getWorkgroup(any(GetWorkgroupRequest.class))).thenReturn(getReadResponseSdk());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setBusyWorkgroupRetryAttempts(BaseHandlerStd.BUSY_WORKGROUP_MAX_RETRIES);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
     }
 }